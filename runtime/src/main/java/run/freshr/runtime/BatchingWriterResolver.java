@@ -0,0 +1,189 @@
+package run.freshr.runtime;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import org.springframework.restdocs.RestDocumentationContext;
+import org.springframework.restdocs.snippet.PlaceholderResolverFactory;
+import org.springframework.restdocs.snippet.RestDocumentationContextPlaceholderResolverFactory;
+import org.springframework.restdocs.snippet.WriterResolver;
+import org.springframework.restdocs.templates.TemplateFormat;
+import org.springframework.restdocs.templates.TemplateFormats;
+import org.springframework.util.PropertyPlaceholderHelper;
+import org.springframework.util.PropertyPlaceholderHelper.PlaceholderResolver;
+
+/**
+ * Batching Writer Resolver.
+ *
+ * @author FreshR
+ * @apiNote StandardWriterResolver 와 같은 경로에 snippet 을 저장하는 WriterResolver<br>
+ * snippet 을 메모리에 작성하고 close 할 때 SnippetWriteQueue 에 전달해서<br>
+ * Test Thread 가 파일 저장을 기다리지 않도록 한다.<br>
+ * MockMvcRestDocumentationConfigurer 의 writerResolver 로 설정하고<br>
+ * DocsSnippetExtension 으로 Test 클래스가 끝날 때 저장 완료를 기다린다.
+ * @since 2026. 10. 18. 오전 6:05:55
+ */
+public class BatchingWriterResolver implements WriterResolver {
+
+  /**
+   * Placeholder 변환 도구
+   *
+   * @apiNote StandardWriterResolver 와 같은 {name} 형식
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  private static final PropertyPlaceholderHelper PLACEHOLDER_HELPER =
+      new PropertyPlaceholderHelper("{", "}");
+
+  /**
+   * Snippet Write Queue
+   *
+   * @apiNote snippet 을 저장할 Queue
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  private final SnippetWriteQueue snippetWriteQueue;
+  /**
+   * Placeholder Resolver Factory
+   *
+   * @apiNote operation 이름과 snippet 이름의 Placeholder 변환
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  private final PlaceholderResolverFactory placeholderResolverFactory;
+  /**
+   * Template Format
+   *
+   * @apiNote snippet 파일 확장자
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  private final TemplateFormat templateFormat;
+  /**
+   * 문자 집합
+   *
+   * @apiNote snippet 파일 Encoding
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  private Charset charset;
+
+  public BatchingWriterResolver() {
+    this(SnippetWriteQueue.shared());
+  }
+
+  public BatchingWriterResolver(SnippetWriteQueue snippetWriteQueue) {
+    this(snippetWriteQueue, new RestDocumentationContextPlaceholderResolverFactory(), UTF_8,
+        TemplateFormats.asciidoctor());
+  }
+
+  /**
+   * Instantiates a new Batching writer resolver.
+   *
+   * @param snippetWriteQueue          snippet 을 저장할 Queue
+   * @param placeholderResolverFactory Placeholder Resolver Factory
+   * @param charset                    snippet 파일 Encoding
+   * @param templateFormat             Template Format
+   * @apiNote StandardWriterResolver 생성자와 같은 설정
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  public BatchingWriterResolver(SnippetWriteQueue snippetWriteQueue,
+      PlaceholderResolverFactory placeholderResolverFactory, Charset charset,
+      TemplateFormat templateFormat) {
+    this.snippetWriteQueue = snippetWriteQueue;
+    this.placeholderResolverFactory = placeholderResolverFactory;
+    this.charset = charset;
+    this.templateFormat = templateFormat;
+  }
+
+  /**
+   * Writer 조회
+   *
+   * @param operationName            operation 이름
+   * @param snippetName              snippet 이름
+   * @param restDocumentationContext the rest documentation context
+   * @return the writer
+   * @throws IOException the io exception
+   * @apiNote 출력 Directory 가 없다면 StandardWriterResolver 처럼 표준 출력에 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  @Override
+  public Writer resolve(String operationName, String snippetName,
+      RestDocumentationContext restDocumentationContext) throws IOException {
+    PlaceholderResolver placeholderResolver = placeholderResolverFactory
+        .create(restDocumentationContext);
+    String outputDirectory = PLACEHOLDER_HELPER
+        .replacePlaceholders(operationName, placeholderResolver);
+    String filename = PLACEHOLDER_HELPER.replacePlaceholders(snippetName, placeholderResolver)
+        + "." + templateFormat.getFileExtension();
+    Path path = resolvePath(outputDirectory, filename, restDocumentationContext);
+
+    if (isNull(path)) {
+      return new OutputStreamWriter(System.out, charset);
+    }
+
+    return new SnippetWriter(path);
+  }
+
+  /**
+   * 문자 집합 설정
+   *
+   * @param encoding the encoding
+   * @apiNote WriterResolver 에서 제거될 수 있는 메서드라서 Override 를 선언하지 않음
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  public void setEncoding(String encoding) {
+    this.charset = Charset.forName(encoding);
+  }
+
+  private Path resolvePath(String outputDirectory, String filename,
+      RestDocumentationContext restDocumentationContext) {
+    File file = new File(outputDirectory, filename);
+
+    if (file.isAbsolute()) {
+      return file.toPath();
+    }
+
+    File configuredDirectory = restDocumentationContext.getOutputDirectory();
+
+    return isNull(configuredDirectory) ? null : new File(configuredDirectory, file.getPath())
+        .toPath();
+  }
+
+  /**
+   * Snippet Writer
+   *
+   * @author FreshR
+   * @apiNote 메모리에 작성한 snippet 을 close 할 때 Queue 에 전달
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  private final class SnippetWriter extends StringWriter {
+
+    private final Path path;
+    private boolean closed;
+
+    private SnippetWriter(Path path) {
+      super(1024);
+
+      this.path = path;
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+
+      closed = true;
+
+      snippetWriteQueue.submit(path, toString().getBytes(charset));
+    }
+
+  }
+
+}
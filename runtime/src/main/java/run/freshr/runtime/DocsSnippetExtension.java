@@ -0,0 +1,39 @@
+package run.freshr.runtime;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import run.freshr.annotation.DocsGroup;
+
+/**
+ * Docs Snippet Extension.
+ *
+ * @author FreshR
+ * @apiNote DocsGroup Annotation 을 적용한 Test 클래스가 끝나면<br>
+ * BatchingWriterResolver 가 공용 Queue 에 전달한 snippet 이 모두 저장될 때까지 대기<br>
+ * ExtendWith 로 등록하거나 junit.jupiter.extensions.autodetection.enabled 로 자동 등록
+ * @since 2026. 10. 18. 오전 6:05:55
+ */
+public class DocsSnippetExtension implements AfterAllCallback {
+
+  /**
+   * 저장 완료 대기
+   *
+   * @param context the context
+   * @throws Exception the exception
+   * @apiNote DocsGroup Annotation 이 없는 Test 클래스는 대기하지 않음<br>
+   * 저장에 실패한 snippet 이 있다면 Test 클래스를 실패로 처리
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  @Override
+  public void afterAll(ExtensionContext context) throws Exception {
+    boolean docsGroup = context.getTestClass()
+        .map(testClass -> testClass.isAnnotationPresent(DocsGroup.class))
+        .orElse(false);
+
+    if (docsGroup) {
+      SnippetWriteQueue.shared().flush();
+    }
+  }
+
+}
@@ -0,0 +1,142 @@
+package run.freshr.runtime;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.springframework.restdocs.cli.CliDocumentation;
+import org.springframework.restdocs.http.HttpDocumentation;
+import org.springframework.restdocs.mockmvc.MockMvcRestDocumentation;
+import org.springframework.restdocs.mockmvc.RestDocumentationResultHandler;
+import org.springframework.restdocs.payload.RequestFieldsSnippet;
+import org.springframework.restdocs.payload.ResponseFieldsSnippet;
+import org.springframework.restdocs.request.FormParametersSnippet;
+import org.springframework.restdocs.request.PathParametersSnippet;
+import org.springframework.restdocs.request.QueryParametersSnippet;
+import org.springframework.restdocs.request.RequestPartsSnippet;
+import org.springframework.restdocs.snippet.Snippet;
+import run.freshr.enumeration.SnippetType;
+
+/**
+ * Docs Snippets.
+ *
+ * @author FreshR
+ * @apiNote 생성한 Docs 식별자 조회 클래스의 snippet 목록으로 document 설정<br>
+ * Docs Annotation 에서 선택하지 않은 snippet 은 생성하지 않아서<br>
+ * 문서에 include 하지 않는 파일을 작성하는 비용을 줄인다.<br>
+ * 기본 snippet 이 중복으로 생성되지 않도록 MockMvcRestDocumentationConfigurer 에서<br>
+ * snippets().withDefaults() 로 기본 snippet 을 비워야 한다.
+ * @since 2026. 10. 18. 오전 6:03:59
+ */
+public class DocsSnippets {
+
+  /**
+   * Snippet 클래스별 Snippet 유형
+   *
+   * @apiNote 목록에 없는 Snippet 클래스는 항상 생성
+   * @since 2026. 10. 18. 오전 6:03:59
+   */
+  private static final Map<Class<? extends Snippet>, SnippetType> SNIPPET_TYPE_MAP = Map.of(
+      PathParametersSnippet.class, SnippetType.PATH_PARAMETERS,
+      RequestPartsSnippet.class, SnippetType.REQUEST_PARTS,
+      QueryParametersSnippet.class, SnippetType.QUERY_PARAMETERS,
+      FormParametersSnippet.class, SnippetType.FORM_PARAMETERS,
+      RequestFieldsSnippet.class, SnippetType.REQUEST_FIELDS,
+      ResponseFieldsSnippet.class, SnippetType.RESPONSE_FIELDS);
+
+  /**
+   * Snippet 목록 조회 함수
+   *
+   * @apiNote 생성한 Docs 식별자 조회 클래스의 snippets 메서드
+   * @since 2026. 10. 18. 오전 6:03:59
+   */
+  private final Function<String, Set<SnippetType>> snippetsFunction;
+
+  /**
+   * Instantiates a new Docs snippets.
+   *
+   * @param snippetsFunction Docs 식별자별 Snippet 목록 조회 함수<br>
+   *                         DocsIndex::snippets
+   */
+  public DocsSnippets(Function<String, Set<SnippetType>> snippetsFunction) {
+    this.snippetsFunction = snippetsFunction;
+  }
+
+  /**
+   * Document 설정
+   *
+   * @param identifier Docs 식별자
+   * @param snippets   Test 에서 작성한 snippet 목록
+   * @return the rest documentation result handler
+   * @apiNote Docs 식별자를 snippet 경로로 사용해서 선택한 snippet 만 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:03:59
+   */
+  public RestDocumentationResultHandler document(String identifier, Snippet... snippets) {
+    return MockMvcRestDocumentation.document(identifier, select(identifier, snippets));
+  }
+
+  /**
+   * Snippet 선택
+   *
+   * @param identifier Docs 식별자
+   * @param snippets   Test 에서 작성한 snippet 목록
+   * @return the snippet [ ]
+   * @apiNote Docs Annotation 에서 선택한 snippet 과 HTTP, Curl snippet 목록<br>
+   * 식별자를 찾을 수 없다면 전달한 snippet 과 기본 snippet 을 모두 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:03:59
+   */
+  public Snippet[] select(String identifier, Snippet... snippets) {
+    Set<SnippetType> snippetTypeSet = snippetsFunction.apply(identifier);
+    boolean indexed = !isNull(snippetTypeSet) && !snippetTypeSet.isEmpty();
+    List<Snippet> snippetList = new ArrayList<>(snippets.length + 3);
+
+    for (Snippet snippet : snippets) {
+      SnippetType snippetType = snippetTypeOf(snippet);
+
+      if (!indexed || isNull(snippetType) || snippetTypeSet.contains(snippetType)) {
+        snippetList.add(snippet);
+      }
+    }
+
+    if (!indexed || snippetTypeSet.contains(SnippetType.HTTP_REQUEST)) {
+      snippetList.add(HttpDocumentation.httpRequest());
+    }
+
+    if (!indexed || snippetTypeSet.contains(SnippetType.HTTP_RESPONSE)) {
+      snippetList.add(HttpDocumentation.httpResponse());
+    }
+
+    if (!indexed || snippetTypeSet.contains(SnippetType.CURL_REQUEST)) {
+      snippetList.add(CliDocumentation.curlRequest());
+    }
+
+    return snippetList.toArray(Snippet[]::new);
+  }
+
+  /**
+   * Snippet 유형 조회
+   *
+   * @param snippet the snippet
+   * @return the snippet type
+   * @apiNote 상속한 Snippet 클래스는 상위 클래스로 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:03:59
+   */
+  private SnippetType snippetTypeOf(Snippet snippet) {
+    for (Class<?> type = snippet.getClass(); !isNull(type); type = type.getSuperclass()) {
+      SnippetType snippetType = SNIPPET_TYPE_MAP.get(type);
+
+      if (!isNull(snippetType)) {
+        return snippetType;
+      }
+    }
+
+    return null;
+  }
+
+}
@@ -0,0 +1,330 @@
+package run.freshr.runtime;
+
+import static java.lang.System.Logger.Level.ERROR;
+import static java.util.Objects.isNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import run.freshr.writer.AtomicFiles;
+
+/**
+ * Snippet Write Queue.
+ *
+ * @author FreshR
+ * @apiNote Test Thread 가 전달한 snippet 을 별도의 Thread 하나에서 모아서 저장<br>
+ * 저장하지 않은 snippet 의 byte 수가 최대 크기를 넘으면 저장할 때까지 요청한 Thread 를 대기<br>
+ * 문서 생성 전에 flush 로 모든 snippet 의 저장이 끝날 때까지 기다려야 한다.
+ * @since 2026. 10. 18. 오전 6:05:55
+ */
+public class SnippetWriteQueue implements Closeable {
+
+  /**
+   * 기본 최대 크기
+   *
+   * @apiNote 저장하지 않은 snippet 의 최대 byte 수
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  public static final int DEFAULT_MAX_BYTES = 16 * 1024 * 1024;
+  /**
+   * 기본 묶음 크기
+   *
+   * @apiNote 한 번에 꺼내서 저장할 snippet 개수
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  public static final int DEFAULT_BATCH_SIZE = 64;
+
+  /**
+   * Logger
+   *
+   * @apiNote JVM 종료 Hook 처럼 예외를 전달할 곳이 없을 때 사용
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  private static final System.Logger LOGGER = System.getLogger(SnippetWriteQueue.class.getName());
+
+  /**
+   * 공용 Queue
+   *
+   * @apiNote JVM 종료 전에 남은 snippet 을 저장
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  private static volatile SnippetWriteQueue shared;
+
+  /**
+   * 저장 대기 목록
+   *
+   * @apiNote 요청한 순서대로 저장
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  private final BlockingQueue<PendingSnippet> pendingQueue = new LinkedBlockingQueue<>();
+  /**
+   * 남은 byte 수
+   *
+   * @apiNote snippet 을 요청할 때 획득하고 저장한 뒤 반환
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  private final Semaphore byteSemaphore;
+  /**
+   * 최대 크기
+   *
+   * @apiNote 저장하지 않은 snippet 의 최대 byte 수
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  private final int maxBytes;
+  /**
+   * 묶음 크기
+   *
+   * @apiNote 한 번에 꺼내서 저장할 snippet 개수
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  private final int batchSize;
+  /**
+   * 저장 Thread
+   *
+   * @apiNote close 에서 중단
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  private final Thread writerThread;
+  /**
+   * 저장 실패
+   *
+   * @apiNote 처음 실패한 예외를 flush 에서 전달
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  private final AtomicReference<IOException> failure = new AtomicReference<>();
+  /**
+   * 요청, 저장 개수 Monitor
+   *
+   * @apiNote flush 에서 요청한 snippet 이 모두 저장될 때까지 대기
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  private final Object monitor = new Object();
+
+  private long submitted;
+  private long completed;
+  private boolean closed;
+
+  public SnippetWriteQueue() {
+    this(DEFAULT_MAX_BYTES, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Instantiates a new Snippet write queue.
+   *
+   * @param maxBytes  저장하지 않은 snippet 의 최대 byte 수
+   * @param batchSize 한 번에 꺼내서 저장할 snippet 개수
+   * @apiNote 저장 Thread 는 daemon 으로 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  public SnippetWriteQueue(int maxBytes, int batchSize) {
+    this.maxBytes = Math.max(maxBytes, 1);
+    this.batchSize = Math.max(batchSize, 1);
+    this.byteSemaphore = new Semaphore(this.maxBytes);
+    this.writerThread = new Thread(this::run, "rest-docs-snippet-writer");
+
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  /**
+   * 공용 Queue 조회
+   *
+   * @return the snippet write queue
+   * @apiNote 처음 조회할 때 생성하고 JVM 종료 Hook 에 저장 완료를 등록
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  public static SnippetWriteQueue shared() {
+    if (isNull(shared)) {
+      synchronized (SnippetWriteQueue.class) {
+        if (isNull(shared)) {
+          SnippetWriteQueue queue = new SnippetWriteQueue();
+
+          Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+              queue.close();
+            } catch (IOException e) {
+              LOGGER.log(ERROR, "Failed to write REST Docs snippets", e);
+            }
+          }, "rest-docs-snippet-flush"));
+
+          shared = queue;
+        }
+      }
+    }
+
+    return shared;
+  }
+
+  /**
+   * Snippet 저장 요청
+   *
+   * @param path  저장할 파일 경로
+   * @param bytes 파일 내용
+   * @throws IOException the io exception
+   * @apiNote 최대 크기를 넘으면 앞선 snippet 이 저장될 때까지 대기
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  public void submit(Path path, byte[] bytes) throws IOException {
+    int permits = Math.min(bytes.length, maxBytes);
+
+    try {
+      byteSemaphore.acquire(permits);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+
+      throw new InterruptedIOException("interrupted while waiting to queue " + path);
+    }
+
+    synchronized (monitor) {
+      if (closed) {
+        byteSemaphore.release(permits);
+
+        throw new IOException("snippet write queue is closed: " + path);
+      }
+
+      submitted++;
+    }
+
+    pendingQueue.add(new PendingSnippet(path, bytes, permits));
+  }
+
+  /**
+   * 저장 완료 대기
+   *
+   * @throws IOException the io exception
+   * @apiNote 호출하기 전에 요청한 snippet 이 모두 저장될 때까지 대기<br>
+   * 저장에 실패한 snippet 이 있다면 처음 실패한 예외를 전달
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  public void flush() throws IOException {
+    synchronized (monitor) {
+      long target = submitted;
+
+      while (completed < target) {
+        try {
+          monitor.wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+
+          throw new InterruptedIOException("interrupted while flushing snippets");
+        }
+      }
+    }
+
+    IOException exception = failure.getAndSet(null);
+
+    if (!isNull(exception)) {
+      throw exception;
+    }
+  }
+
+  /**
+   * 저장 종료
+   *
+   * @throws IOException the io exception
+   * @apiNote 남은 snippet 을 모두 저장한 뒤 저장 Thread 를 중단
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  @Override
+  public void close() throws IOException {
+    synchronized (monitor) {
+      closed = true;
+    }
+
+    try {
+      flush();
+    } finally {
+      writerThread.interrupt();
+    }
+  }
+
+  private void run() {
+    List<PendingSnippet> batch = new ArrayList<>(batchSize);
+
+    while (true) {
+      try {
+        batch.add(pendingQueue.take());
+      } catch (InterruptedException e) {
+        return;
+      }
+
+      pendingQueue.drainTo(batch, batchSize - 1);
+
+      try {
+        for (PendingSnippet pending : batch) {
+          write(pending);
+        }
+      } finally {
+        synchronized (monitor) {
+          completed += batch.size();
+          monitor.notifyAll();
+        }
+
+        batch.clear();
+      }
+    }
+  }
+
+  /**
+   * Snippet 저장
+   *
+   * @param pending 저장 대기 snippet
+   * @apiNote 어떤 예외가 발생해도 저장 Thread 가 멈추지 않도록 처음 실패한 예외만 기록하고<br>
+   * flush 와 submit 이 계속 대기하지 않도록 획득한 byte 수는 항상 반환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  private void write(PendingSnippet pending) {
+    try {
+      Path parent = pending.path.getParent();
+
+      // 테스트 사이에 Directory 가 삭제될 수 있기 때문에 매번 확인
+      if (!isNull(parent)) {
+        Files.createDirectories(parent);
+      }
+
+      AtomicFiles.write(pending.path, pending.bytes);
+    } catch (IOException e) {
+      failure.compareAndSet(null, e);
+    } catch (Throwable e) {
+      failure.compareAndSet(null, new IOException("Failed to write " + pending.path, e));
+    } finally {
+      byteSemaphore.release(pending.permits);
+    }
+  }
+
+  /**
+   * 저장 대기 snippet
+   *
+   * @author FreshR
+   * @apiNote 저장할 파일 경로와 내용, 획득한 byte 수
+   * @since 2026. 10. 18. 오전 6:05:55
+   */
+  private static final class PendingSnippet {
+
+    private final Path path;
+    private final byte[] bytes;
+    private final int permits;
+
+    private PendingSnippet(Path path, byte[] bytes, int permits) {
+      this.path = path;
+      this.bytes = bytes;
+      this.permits = permits;
+    }
+
+  }
+
+}
@@ -0,0 +1,33 @@
+package run.freshr.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark Files.
+ *
+ * @author FreshR
+ * @apiNote Benchmark 에서 생성한 임시 파일 정리
+ * @since 2026. 10. 18. 오전 5:34:43
+ */
+public final class BenchmarkFiles {
+
+  private BenchmarkFiles() {
+  }
+
+  public static void delete(Path directory) throws IOException {
+    if (!Files.exists(directory)) {
+      return;
+    }
+
+    try (Stream<Path> stream = Files.walk(directory)) {
+      for (Path path : stream.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+
+}
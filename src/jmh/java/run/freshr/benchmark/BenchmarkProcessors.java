@@ -0,0 +1,89 @@
+package run.freshr.benchmark;
+
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import run.freshr.annotation.DocsGroup;
+import run.freshr.processor.DocsExtractor;
+
+/**
+ * Benchmark Processors.
+ *
+ * @author FreshR
+ * @apiNote RestDocsProcessor 의 단계별 비용을 나누어 측정하기 위한 Processor 목록
+ * @since 2026. 10. 18. 오전 5:34:43
+ */
+public final class BenchmarkProcessors {
+
+  private BenchmarkProcessors() {
+  }
+
+  /**
+   * 아무것도 하지 않는 Processor
+   *
+   * @author FreshR
+   * @apiNote javac 의 분석 비용만 측정
+   * @since 2026. 10. 18. 오전 5:34:43
+   */
+  public static class NoopProcessor extends AbstractProcessor {
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+      return Set.of(DocsGroup.class.getName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+      return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+      return true;
+    }
+
+  }
+
+  /**
+   * 변환만 하는 Processor
+   *
+   * @author FreshR
+   * @apiNote DocsExtractor 로 모델 변환까지만 측정
+   * @since 2026. 10. 18. 오전 5:34:43
+   */
+  public static class ExtractionProcessor extends NoopProcessor {
+
+    /**
+     * 변환한 Docs 개수
+     *
+     * @apiNote 변환 결과가 제거되지 않도록 저장
+     * @since 2026. 10. 18. 오전 5:34:43
+     */
+    private int docsCount;
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+      if (annotations.isEmpty()) {
+        return false;
+      }
+
+      DocsExtractor docsExtractor = new DocsExtractor(processingEnv);
+
+      for (Element element : roundEnv
+          .getElementsAnnotatedWith(docsExtractor.getDocsGroupType())) {
+        docsCount += docsExtractor.extract(element).getDocsList().size();
+      }
+
+      return true;
+    }
+
+    public int getDocsCount() {
+      return docsCount;
+    }
+
+  }
+
+}
@@ -0,0 +1,175 @@
+package run.freshr.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.asciidoctor.Asciidoctor;
+import org.asciidoctor.Options;
+import org.asciidoctor.SafeMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import run.freshr.enumeration.SnippetType;
+import run.freshr.model.DocsGroupModel;
+import run.freshr.model.DocsModel;
+import run.freshr.renderer.DocsRenderer;
+import run.freshr.renderer.HtmlRenderer;
+import run.freshr.renderer.NavigationRenderer;
+import run.freshr.renderer.SnippetSelector;
+import run.freshr.template.DocsTemplates;
+import run.freshr.template.TemplateCache;
+
+/**
+ * Html Benchmark.
+ *
+ * @author FreshR
+ * @apiNote 같은 DocsGroup 과 snippet 으로 HTML 문서를 생성하는 비용을<br>
+ * HtmlRenderer 와 Asciidoctor 로 각각 측정<br>
+ * Asciidoctor 는 JRuby 시작 비용을 Setup 에서 제외하고 문서 변환 비용만 측정
+ * @since 2026. 10. 18. 오전 6:00:40
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class HtmlBenchmark {
+
+  @Param({"100", "500"})
+  private int classCount;
+
+  @Param({"10"})
+  private int methodCount;
+
+  @Param({"native", "asciidoctor"})
+  private String engine;
+
+  private List<DocsGroupModel> docsGroupList;
+  private Path workPath;
+  private String navigation;
+  private HtmlRenderer htmlRenderer;
+  private DocsRenderer docsRenderer;
+  private Asciidoctor asciidoctor;
+  private Options options;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    docsGroupList = SyntheticSources.models(classCount, methodCount);
+    workPath = Files.createTempDirectory("rest-docs-html-benchmark");
+
+    Path snippetsPath = workPath.resolve("snippets");
+    // 존재하지 않는 Directory 를 설정해서 모듈에 포함된 템플릿 사용
+    DocsTemplates templates = TemplateCache.load(Path.of("build", "jmh-no-templates"));
+    String menu = new NavigationRenderer(false).render(docsGroupList);
+
+    writeSnippets(snippetsPath);
+
+    if ("native".equals(engine)) {
+      htmlRenderer = new HtmlRenderer(templates, snippetsPath, SnippetSelector.FLAGS);
+      navigation = htmlRenderer.renderNavigation(menu);
+
+      return;
+    }
+
+    Files.writeString(workPath.resolve(NavigationRenderer.FILENAME), menu, UTF_8);
+
+    docsRenderer = new DocsRenderer(templates, snippetsPath);
+    asciidoctor = Asciidoctor.Factory.create();
+    options = Options.builder()
+        .safe(SafeMode.UNSAFE)
+        .baseDir(workPath.toFile())
+        .standalone(true)
+        .toFile(false)
+        .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    if (!isNull(asciidoctor)) {
+      asciidoctor.shutdown();
+    }
+
+    BenchmarkFiles.delete(workPath);
+  }
+
+  @Benchmark
+  public void render(Blackhole blackhole) {
+    for (DocsGroupModel groupModel : docsGroupList) {
+      if ("native".equals(engine)) {
+        blackhole.consume(htmlRenderer.renderGroup(groupModel, navigation));
+      } else {
+        blackhole.consume(asciidoctor.convert(docsRenderer.renderGroup(groupModel), options));
+      }
+    }
+  }
+
+  /**
+   * Snippet 생성
+   *
+   * @param snippetsPath Snippet Directory
+   * @throws IOException the io exception
+   * @apiNote Spring REST Docs 기본 템플릿과 같은 형식의 snippet 을 모든 Docs 에 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private void writeSnippets(Path snippetsPath) throws IOException {
+    String fields = fields();
+
+    for (DocsGroupModel groupModel : docsGroupList) {
+      for (DocsModel docsModel : groupModel.getDocsList()) {
+        Path docsPath = snippetsPath.resolve(groupModel.getPath()).resolve(docsModel.getPath());
+
+        Files.createDirectories(docsPath);
+
+        for (SnippetType snippetType : SnippetType.values()) {
+          String contents = switch (snippetType) {
+            case HTTP_REQUEST -> source("http", "GET /api/" + docsModel.getPath()
+                + "/1 HTTP/1.1\nAccept: application/json\nHost: localhost:8080\n");
+            case HTTP_RESPONSE -> source("http", "HTTP/1.1 200 OK\n"
+                + "Content-Type: application/json\n\n{\"code\":\"S000\",\"data\":{\"id\":1}}");
+            case CURL_REQUEST -> source("bash", "$ curl 'http://localhost:8080/api/"
+                + docsModel.getPath() + "/1' -i -X GET");
+            case PATH_PARAMETERS -> ".+/api/" + docsModel.getPath() + "/{id}+\n|===\n"
+                + "|Parameter|Description\n\n|`+id+`\n|일련 번호\n\n|===\n";
+            default -> fields;
+          };
+
+          Files.writeString(docsPath.resolve(snippetType.getFilename()), contents, UTF_8);
+        }
+      }
+    }
+  }
+
+  private String source(String language, String contents) {
+    return "[source," + language + ",options=\"nowrap\"]\n----\n" + contents + "\n----\n";
+  }
+
+  private String fields() {
+    StringBuilder stringBuilder = new StringBuilder("|===\n|Path|Type|Description\n");
+
+    for (int i = 0; i < 10; i++) {
+      stringBuilder.append("\n|`+data.field").append(i).append("+`\n|`+String+`\n|필드 ")
+          .append(i).append(" link:popup-error-code[오류 코드,role=\"popup\"]\n");
+    }
+
+    return stringBuilder.append("\n|===\n").toString();
+  }
+
+}
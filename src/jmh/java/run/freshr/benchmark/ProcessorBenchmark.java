@@ -0,0 +1,140 @@
+package run.freshr.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static javax.tools.Diagnostic.Kind.ERROR;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.processing.Processor;
+import javax.tools.Diagnostic;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import run.freshr.benchmark.BenchmarkProcessors.ExtractionProcessor;
+import run.freshr.benchmark.BenchmarkProcessors.NoopProcessor;
+import run.freshr.processor.RestDocsOptions;
+import run.freshr.processor.RestDocsProcessor;
+
+/**
+ * Processor Benchmark.
+ *
+ * @author FreshR
+ * @apiNote 메모리에 생성한 테스트 소스를 JavaCompiler 로 -proc:only 컴파일하면서 단계별 비용 측정<br>
+ * baseline 은 javac 분석 비용, extraction 은 모델 변환까지, processor 는 문서 저장까지 포함<br>
+ * extraction - baseline 이 변환 비용, processor - extraction 이 생성과 저장 비용
+ * @since 2026. 10. 18. 오전 5:34:43
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ProcessorBenchmark {
+
+  @Param({"100", "1000", "5000"})
+  private int classCount;
+
+  @Param({"10"})
+  private int methodCount;
+
+  private final List<Diagnostic<? extends JavaFileObject>> errorList = new ArrayList<>();
+
+  private JavaCompiler compiler;
+  private StandardJavaFileManager fileManager;
+  private List<JavaFileObject> sourceList;
+  private Path outputPath;
+  private Path classesPath;
+  private Path sourcesPath;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    compiler = ToolProvider.getSystemJavaCompiler();
+    // 생성한 소스를 읽을 때의 인코딩 오류는 FileManager 로 보고
+    fileManager = compiler.getStandardFileManager(this::report, null, null);
+    sourceList = SyntheticSources.sources(classCount, methodCount);
+    outputPath = Files.createTempDirectory("rest-docs-benchmark");
+    // Catalog 와 조회 클래스가 작업 Directory 에 생성되지 않도록 임시 Directory 사용
+    classesPath = Files.createDirectories(outputPath.resolve("classes"));
+    sourcesPath = Files.createDirectories(outputPath.resolve("generated"));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    fileManager.close();
+    BenchmarkFiles.delete(outputPath);
+  }
+
+  @Benchmark
+  public boolean baseline() {
+    return compile(new NoopProcessor());
+  }
+
+  @Benchmark
+  public boolean extraction() {
+    return compile(new ExtractionProcessor());
+  }
+
+  @Benchmark
+  public boolean processor() {
+    return compile(new RestDocsProcessor());
+  }
+
+  /**
+   * 컴파일
+   *
+   * @param processor 측정할 Processor
+   * @return the boolean
+   * @apiNote Processor 의 NOTE 메시지는 측정에서 제외<br>
+   * 실패한 컴파일의 시간을 측정하지 않도록 ERROR 메시지가 있거나 컴파일이 실패하면 Benchmark 실패
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:34:43
+   */
+  private boolean compile(Processor processor) {
+    errorList.clear();
+
+    JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, this::report, List.of(
+        "-proc:only",
+        "-d", classesPath.toString(),
+        "-s", sourcesPath.toString(),
+        "-classpath", System.getProperty("java.class.path"),
+        "-A" + RestDocsOptions.OUTPUT_DIR + "=" + outputPath.resolve("asciidoc"),
+        "-A" + RestDocsOptions.TEMPLATE_DIR + "=" + outputPath.resolve("templates"),
+        "-A" + RestDocsOptions.METRICS_FILE + "=" + outputPath.resolve("metrics.json")),
+        null, sourceList);
+
+    task.setProcessors(List.of(processor));
+
+    boolean success = task.call();
+
+    if (!success || !errorList.isEmpty()) {
+      throw new IllegalStateException("Compilation failed: " + errorList);
+    }
+
+    return success;
+  }
+
+  private void report(Diagnostic<? extends JavaFileObject> diagnostic) {
+    if (diagnostic.getKind() == ERROR) {
+      errorList.add(diagnostic);
+    }
+  }
+
+}
@@ -0,0 +1,68 @@
+package run.freshr.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import run.freshr.model.DocsGroupModel;
+import run.freshr.renderer.DocsRenderer;
+import run.freshr.renderer.NavigationRenderer;
+import run.freshr.template.TemplateCache;
+
+/**
+ * Render Benchmark.
+ *
+ * @author FreshR
+ * @apiNote javac 없이 메뉴와 DocsGroup 문서 생성 비용만 측정
+ * @since 2026. 10. 18. 오전 5:34:43
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RenderBenchmark {
+
+  @Param({"100", "1000", "5000"})
+  private int classCount;
+
+  @Param({"10"})
+  private int methodCount;
+
+  private List<DocsGroupModel> docsGroupList;
+  private DocsRenderer docsRenderer;
+  private NavigationRenderer navigationRenderer;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    docsGroupList = SyntheticSources.models(classCount, methodCount);
+    // 존재하지 않는 Directory 를 설정해서 모듈에 포함된 템플릿 사용
+    docsRenderer = new DocsRenderer(TemplateCache.load(Path.of("build", "jmh-no-templates")));
+    navigationRenderer = new NavigationRenderer(false);
+  }
+
+  @Benchmark
+  public void render(Blackhole blackhole) {
+    blackhole.consume(navigationRenderer.render(docsGroupList));
+
+    for (DocsGroupModel groupModel : docsGroupList) {
+      blackhole.consume(docsRenderer.renderGroup(groupModel));
+    }
+  }
+
+}
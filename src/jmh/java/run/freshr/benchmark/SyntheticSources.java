@@ -0,0 +1,135 @@
+package run.freshr.benchmark;
+
+import static javax.tools.JavaFileObject.Kind.SOURCE;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import run.freshr.model.DocsGroupModel;
+import run.freshr.model.DocsModel;
+import run.freshr.model.DocsPopupModel;
+
+/**
+ * Synthetic Sources.
+ *
+ * @author FreshR
+ * @apiNote Benchmark 에 사용할 DocsGroup 클래스 N 개 x Docs 메서드 M 개 생성<br>
+ * 모든 Docs 메서드는 같은 팝업을 사용
+ * @since 2026. 10. 18. 오전 5:34:43
+ */
+public final class SyntheticSources {
+
+  private SyntheticSources() {
+  }
+
+  /**
+   * 테스트 소스 생성
+   *
+   * @param classCount  DocsGroup 클래스 개수
+   * @param methodCount 클래스 하나의 Docs 메서드 개수
+   * @return the list
+   * @apiNote 메모리에서 컴파일할 수 있는 소스 목록 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:34:43
+   */
+  public static List<JavaFileObject> sources(int classCount, int methodCount) {
+    List<JavaFileObject> sourceList = new ArrayList<>(classCount);
+
+    for (int i = 0; i < classCount; i++) {
+      String className = "Sample" + i + "ControllerTest";
+      StringBuilder stringBuilder = new StringBuilder(256 + methodCount * 256)
+          .append("package com.example;\n")
+          .append("import run.freshr.annotation.Docs;\n")
+          .append("import run.freshr.annotation.DocsGroup;\n")
+          .append("import run.freshr.annotation.DocsPopup;\n")
+          .append("@DocsGroup(name = \"sample-").append(i).append("\")\n")
+          .append("public class ").append(className).append(" {\n");
+
+      for (int j = 0; j < methodCount; j++) {
+        stringBuilder
+            .append("  @Docs(existsPathParameters = ").append(j % 3 == 0)
+            .append(", existsRequestFields = ").append(j % 2 == 0)
+            .append(", existsResponseFields = true,\n")
+            .append("      popup = {@DocsPopup(name = \"error-code\",")
+            .append(" include = \"common/error-code.adoc\")})\n")
+            .append("  public void getSample").append(j).append("() {}\n");
+      }
+
+      sourceList.add(new StringSource("com/example/" + className,
+          stringBuilder.append("}\n").toString()));
+    }
+
+    return sourceList;
+  }
+
+  /**
+   * DocsGroupModel 생성
+   *
+   * @param classCount  DocsGroup 개수
+   * @param methodCount DocsGroup 하나의 Docs 개수
+   * @return the list
+   * @apiNote 테스트 소스를 Processor 가 변환한 결과와 같은 모델 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:34:43
+   */
+  public static List<DocsGroupModel> models(int classCount, int methodCount) {
+    List<DocsGroupModel> docsGroupList = new ArrayList<>(classCount);
+
+    for (int i = 0; i < classCount; i++) {
+      List<DocsModel> docsList = new ArrayList<>(methodCount);
+
+      for (int j = 0; j < methodCount; j++) {
+        docsList.add(DocsModel.builder()
+            .path("get-sample" + j)
+            .description("get-sample" + j)
+            .existsPathParameters(j % 3 == 0)
+            .existsRequestParts(false)
+            .existsQueryParameters(false)
+            .existsFormParameters(false)
+            .existsRequestFields(j % 2 == 0)
+            .existsResponseFields(true)
+            .popupList(List.of(DocsPopupModel.builder()
+                .name("error-code")
+                .include("common/error-code.adoc")
+                .build()))
+            .build());
+      }
+
+      docsGroupList.add(DocsGroupModel.builder()
+          .path("sample" + i + "-controller-test")
+          .name("sample-" + i)
+          .description("sample-" + i)
+          .docsList(docsList)
+          .build());
+    }
+
+    return docsGroupList;
+  }
+
+  /**
+   * 문자열 소스
+   *
+   * @author FreshR
+   * @apiNote 파일 없이 메모리에 있는 소스
+   * @since 2026. 10. 18. 오전 5:34:43
+   */
+  private static final class StringSource extends SimpleJavaFileObject {
+
+    private final String code;
+
+    private StringSource(String name, String code) {
+      super(URI.create("string:///" + name + SOURCE.extension), SOURCE);
+
+      this.code = code;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return code;
+    }
+
+  }
+
+}
@@ -0,0 +1,93 @@
+package run.freshr.benchmark;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import run.freshr.model.DocsGroupModel;
+import run.freshr.renderer.DocsRenderer;
+import run.freshr.template.TemplateCache;
+import run.freshr.writer.PathDocsWriter;
+
+/**
+ * Write Benchmark.
+ *
+ * @author FreshR
+ * @apiNote 생성한 문서를 PathDocsWriter 로 저장하는 비용만 측정<br>
+ * changed 가 false 라면 Manifest 로 저장을 생략하는 비용,<br>
+ * true 라면 매번 내용이 바뀌어서 모든 문서를 다시 저장하는 비용
+ * @since 2026. 10. 18. 오전 5:34:43
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WriteBenchmark {
+
+  @Param({"100", "1000", "5000"})
+  private int classCount;
+
+  @Param({"10"})
+  private int methodCount;
+
+  @Param({"false", "true"})
+  private boolean changed;
+
+  private List<String> filenameList;
+  private List<String> contentsList;
+  private Path outputPath;
+  private int invocation;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    List<DocsGroupModel> docsGroupList = SyntheticSources.models(classCount, methodCount);
+    DocsRenderer docsRenderer = new DocsRenderer(
+        TemplateCache.load(Path.of("build", "jmh-no-templates")));
+
+    filenameList = new ArrayList<>(docsGroupList.size());
+    contentsList = new ArrayList<>(docsGroupList.size());
+
+    for (DocsGroupModel groupModel : docsGroupList) {
+      filenameList.add(DocsRenderer.documentName(groupModel));
+      contentsList.add(docsRenderer.renderGroup(groupModel));
+    }
+
+    outputPath = Files.createTempDirectory("rest-docs-benchmark");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    BenchmarkFiles.delete(outputPath);
+  }
+
+  @Benchmark
+  public void write() throws IOException {
+    // 내용이 바뀌는 경우 매번 다른 내용으로 저장
+    String suffix = changed ? "// " + invocation++ + "\n" : "";
+
+    try (PathDocsWriter docsWriter = new PathDocsWriter(outputPath)) {
+      for (int i = 0; i < filenameList.size(); i++) {
+        docsWriter.write(filenameList.get(i), contentsList.get(i) + suffix);
+      }
+    }
+  }
+
+}
@@ -1,7 +1,7 @@
 package run.freshr.annotation;
 
 import static java.lang.annotation.ElementType.METHOD;
-import static java.lang.annotation.RetentionPolicy.SOURCE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
@@ -14,7 +14,7 @@ import java.lang.annotation.Target;
  * @since 2023. 1. 12. 오후 3:14:18
  */
 @Target(METHOD)
-@Retention(SOURCE)
+@Retention(CLASS)
 public @interface Docs {
 
   /**
@@ -1,7 +1,7 @@
 package run.freshr.annotation;
 
 import static java.lang.annotation.ElementType.TYPE;
-import static java.lang.annotation.RetentionPolicy.SOURCE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
@@ -10,11 +10,12 @@ import java.lang.annotation.Target;
  * DocsGroup Annotation.
  *
  * @author FreshR
- * @apiNote Test 클래스에 적용할 Annotation
+ * @apiNote Test 클래스에 적용할 Annotation<br>
+ * DocsSnippetExtension 이 Test 실행 중에 조회하기 때문에 RUNTIME 까지 유지
  * @since 2023. 1. 12. 오후 3:16:08
  */
 @Target(TYPE)
-@Retention(SOURCE)
+@Retention(RUNTIME)
 public @interface DocsGroup {
 
   /**
@@ -28,4 +29,16 @@ public @interface DocsGroup {
    */
   String name() default "";
 
+  /**
+   * Entity 클래스 목록
+   *
+   * @return the class [ ]
+   * @apiNote 문서의 요청, 응답 필드로 사용하는 Entity 클래스<br>
+   * Compile 할 때 Column 정의를 ColumnType 으로 변환해서<br>
+   * 제약 조건 조회 클래스와 constraints-{entity}.adoc 문서를 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  Class<?>[] entity() default {};
+
 }
@@ -1,6 +1,6 @@
 package run.freshr.annotation;
 
-import static java.lang.annotation.RetentionPolicy.SOURCE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
@@ -13,7 +13,7 @@ import java.lang.annotation.Target;
  * @since 2023. 1. 13. 오후 2:36:19
  */
 @Target({})
-@Retention(SOURCE)
+@Retention(CLASS)
 public @interface DocsPopup {
 
   /**
@@ -0,0 +1,279 @@
+package run.freshr.assembler;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.Optional.ofNullable;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import run.freshr.catalog.DocsCatalog;
+import run.freshr.model.DocsGroupModel;
+import run.freshr.model.DocsModel;
+import run.freshr.model.DocsPopupModel;
+import run.freshr.renderer.DocsGenerator;
+import run.freshr.renderer.DocsRenderer;
+import run.freshr.renderer.NavigationRenderer;
+import run.freshr.renderer.PopupRegistry;
+import run.freshr.renderer.SearchIndexRenderer;
+import run.freshr.template.TemplateCache;
+import run.freshr.writer.DocsPipeline;
+import run.freshr.writer.PathDocsWriter;
+
+/**
+ * Catalog Aggregator.
+ *
+ * @author FreshR
+ * @apiNote 여러 모듈이 restdocs.module 옵션으로 생성한 Catalog 를 합쳐서<br>
+ * 모든 모듈의 DocsGroup 으로 메뉴, index, 검색 색인, 팝업 문서를 한 번에 생성<br>
+ * DocsGroup 문서는 각 모듈의 Processor 가 이미 생성했기 때문에 다시 생성하지 않는다.<br>
+ * --catalog 는 여러 번 사용할 수 있고 Catalog 파일, Build 출력 Directory, Test jar 를 지원<br>
+ * --catalog, --output, --templates, --parallelism, --navigation,<br>
+ * --shardThreshold, --shardSize, --search 인자를 지원
+ * @since 2026. 10. 18. 오전 5:50:27
+ */
+public class CatalogAggregator {
+
+  /**
+   * 문서 Directory
+   *
+   * @apiNote 모든 모듈이 DocsGroup 문서를 생성한 Directory
+   * @since 2026. 10. 18. 오전 5:50:27
+   */
+  private final Path outputPath;
+  /**
+   * 템플릿 Directory
+   *
+   * @apiNote index.adoc, default-top.adoc 등 템플릿 Directory
+   * @since 2026. 10. 18. 오전 5:50:27
+   */
+  private final Path templatePath;
+  /**
+   * 병렬 처리 수준
+   *
+   * @apiNote 문서 생성에 사용할 Thread 개수
+   * @since 2026. 10. 18. 오전 5:50:27
+   */
+  private final int parallelism;
+  /**
+   * 계층 메뉴 사용 여부
+   *
+   * @apiNote 계층 메뉴 사용 여부
+   * @since 2026. 10. 18. 오전 5:50:27
+   */
+  private final boolean hierarchical;
+  /**
+   * 문서 분할 기준
+   *
+   * @apiNote 검색 색인이 분할 문서를 가리키도록 모듈과 같은 값으로 설정
+   * @since 2026. 10. 18. 오전 5:50:27
+   */
+  private final int shardThreshold;
+  /**
+   * 분할 문서 크기
+   *
+   * @apiNote 검색 색인이 분할 문서를 가리키도록 모듈과 같은 값으로 설정
+   * @since 2026. 10. 18. 오전 5:50:27
+   */
+  private final int shardSize;
+  /**
+   * 검색 사용 여부
+   *
+   * @apiNote 검색 사용 여부
+   * @since 2026. 10. 18. 오전 5:50:27
+   */
+  private final boolean search;
+
+  public CatalogAggregator(Path outputPath, Path templatePath, int parallelism,
+      boolean hierarchical, int shardThreshold, int shardSize, boolean search) {
+    this.outputPath = outputPath.toAbsolutePath().normalize();
+    this.templatePath = templatePath.toAbsolutePath().normalize();
+    this.parallelism = parallelism;
+    this.hierarchical = hierarchical;
+    this.shardThreshold = shardThreshold;
+    this.shardSize = shardSize;
+    this.search = search;
+  }
+
+  /**
+   * 실행
+   *
+   * @param args 실행 인자
+   * @throws IOException the io exception
+   * @apiNote --catalog 만 여러 번 사용할 수 있다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:50:27
+   */
+  public static void main(String[] args) throws IOException {
+    Map<String, String> arguments = new HashMap<>();
+    List<Path> catalogPathList = new ArrayList<>();
+
+    for (int i = 0; i + 1 < args.length; i += 2) {
+      if (!args[i].startsWith("--")) {
+        throw new IllegalArgumentException("Unknown argument: " + args[i]);
+      }
+
+      if ("--catalog".equals(args[i])) {
+        catalogPathList.add(Path.of(args[i + 1]));
+      } else {
+        arguments.put(args[i].substring(2), args[i + 1]);
+      }
+    }
+
+    if (catalogPathList.isEmpty()) {
+      throw new IllegalArgumentException("No --catalog given");
+    }
+
+    CatalogAggregator catalogAggregator = new CatalogAggregator(
+        Path.of(arguments.getOrDefault("output", "src/docs/asciidoc")),
+        Path.of(arguments.getOrDefault("templates", "src/main/resources/asciidocs")),
+        ofNullable(arguments.get("parallelism")).map(Integer::parseInt)
+            .orElse(Runtime.getRuntime().availableProcessors()),
+        "hierarchical".equals(arguments.get("navigation")),
+        Integer.parseInt(arguments.getOrDefault("shardThreshold", "0")),
+        Integer.parseInt(arguments.getOrDefault("shardSize", "1")),
+        Boolean.parseBoolean(arguments.get("search")));
+
+    catalogAggregator.aggregate(catalogPathList);
+  }
+
+  /**
+   * Catalog 합치기
+   *
+   * @param catalogPathList Catalog 경로 목록
+   * @throws IOException the io exception
+   * @apiNote Catalog 를 한 번씩만 읽어서 합친 뒤 공용 문서와 전체 Catalog 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:50:27
+   */
+  public void aggregate(List<Path> catalogPathList) throws IOException {
+    Map<Path, List<DocsGroupModel>> catalogMap = new LinkedHashMap<>();
+
+    for (Path catalogPath : catalogPathList) {
+      catalogMap.put(catalogPath, read(catalogPath));
+    }
+
+    List<DocsGroupModel> docsGroupList = merge(catalogMap);
+    PopupRegistry popupRegistry = mergePopups(catalogMap);
+    DocsGenerator docsGenerator = new DocsGenerator(
+        new DocsRenderer(TemplateCache.load(templatePath), null),
+        new NavigationRenderer(hierarchical, search), shardThreshold, shardSize,
+        search ? new SearchIndexRenderer() : null);
+
+    Files.createDirectories(outputPath);
+
+    try (DocsPipeline docsPipeline = new DocsPipeline(new PathDocsWriter(outputPath),
+        parallelism, true)) {
+      docsGenerator.generateShared(docsPipeline, docsGroupList, new IdentityHashMap<>(),
+          popupRegistry);
+
+      // 다른 도구가 모든 모듈의 API 목록을 한 파일로 읽을 수 있도록 전체 Catalog 저장
+      if (!docsGroupList.isEmpty()) {
+        docsPipeline.submit(DocsCatalog.FILENAME, () -> DocsCatalog.write(docsGroupList));
+      }
+    }
+  }
+
+  /**
+   * Catalog 조회
+   *
+   * @param catalogPath Catalog 파일, Build 출력 Directory 또는 jar 경로
+   * @return the list
+   * @throws IOException the io exception
+   * @apiNote Directory 와 jar 는 META-INF/restdocs/catalog.json 을 읽는다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:50:27
+   */
+  public static List<DocsGroupModel> read(Path catalogPath) throws IOException {
+    if (Files.isDirectory(catalogPath)) {
+      return DocsCatalog.read(Files.readString(catalogPath.resolve(DocsCatalog.RESOURCE), UTF_8));
+    }
+
+    if (catalogPath.getFileName().toString().endsWith(".jar")) {
+      try (FileSystem fileSystem = FileSystems.newFileSystem(catalogPath)) {
+        return DocsCatalog.read(Files.readString(fileSystem.getPath(DocsCatalog.RESOURCE),
+            UTF_8));
+      }
+    }
+
+    return DocsCatalog.read(Files.readString(catalogPath, UTF_8));
+  }
+
+  /**
+   * DocsGroup 합치기
+   *
+   * @param catalogMap Catalog 경로별 DocsGroup 목록
+   * @return the list
+   * @throws IOException 서로 다른 모듈이 같은 이름의 문서를 생성한 경우
+   * @apiNote 같은 Catalog 를 두 번 전달해서 내용까지 같은 DocsGroup 은 한 번만 사용
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:50:27
+   */
+  public static List<DocsGroupModel> merge(Map<Path, List<DocsGroupModel>> catalogMap)
+      throws IOException {
+    Map<String, DocsGroupModel> groupMap = new HashMap<>();
+    Map<String, Path> sourceMap = new HashMap<>();
+    List<DocsGroupModel> docsGroupList = new ArrayList<>();
+
+    for (Map.Entry<Path, List<DocsGroupModel>> entry : catalogMap.entrySet()) {
+      for (DocsGroupModel groupModel : entry.getValue()) {
+        String documentName = DocsRenderer.documentName(groupModel);
+        DocsGroupModel registered = groupMap.putIfAbsent(documentName, groupModel);
+
+        if (isNull(registered)) {
+          sourceMap.put(documentName, entry.getKey());
+          docsGroupList.add(groupModel);
+        } else if (!registered.equals(groupModel)) {
+          throw new IOException("Document '" + documentName + "' is generated by both "
+              + sourceMap.get(documentName) + " and " + entry.getKey());
+        }
+      }
+    }
+
+    docsGroupList.sort(DocsGenerator.GROUP_ORDER);
+
+    return docsGroupList;
+  }
+
+  /**
+   * 팝업 합치기
+   *
+   * @param catalogMap Catalog 경로별 DocsGroup 목록
+   * @return the popup registry
+   * @throws IOException 이름이 같은데 include 경로가 다른 팝업이 있는 경우
+   * @apiNote 모든 모듈의 팝업을 이름마다 한 번만 생성<br>
+   * 이름이나 include 경로가 없는 팝업은 모듈의 Processor 가 이미 오류로 알렸기 때문에 제외
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:50:27
+   */
+  private static PopupRegistry mergePopups(Map<Path, List<DocsGroupModel>> catalogMap)
+      throws IOException {
+    PopupRegistry popupRegistry = new PopupRegistry();
+
+    for (Map.Entry<Path, List<DocsGroupModel>> entry : catalogMap.entrySet()) {
+      for (DocsGroupModel groupModel : entry.getValue()) {
+        for (DocsModel docsModel : groupModel.getDocsList()) {
+          for (DocsPopupModel popup : docsModel.getPopupList()) {
+            if (popupRegistry.register(popup) == PopupRegistry.Registration.CONFLICT) {
+              throw new IOException("Popup '" + popup.getName() + "' includes '"
+                  + popup.getInclude() + "' in " + entry.getKey()
+                  + " but is already defined with '"
+                  + popupRegistry.get(popup.getName()).getInclude() + "'");
+            }
+          }
+        }
+      }
+    }
+
+    return popupRegistry;
+  }
+
+}
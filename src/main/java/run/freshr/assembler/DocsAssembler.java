@@ -0,0 +1,352 @@
+package run.freshr.assembler;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Optional.ofNullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import run.freshr.catalog.DocsCatalog;
+import run.freshr.metrics.DocsMetrics;
+import run.freshr.model.DocsGroupModel;
+import run.freshr.renderer.DocsGenerator;
+import run.freshr.renderer.DocsRenderer;
+import run.freshr.renderer.HtmlGenerator;
+import run.freshr.renderer.HtmlRenderer;
+import run.freshr.renderer.NavigationRenderer;
+import run.freshr.renderer.PopupRegistry;
+import run.freshr.renderer.SearchIndexRenderer;
+import run.freshr.renderer.SnippetInliner;
+import run.freshr.template.TemplateCache;
+import run.freshr.writer.DocsManifest;
+import run.freshr.writer.DocsPipeline;
+import run.freshr.writer.PathDocsWriter;
+
+/**
+ * Docs Assembler.
+ *
+ * @author FreshR
+ * @apiNote Test 가 끝난 뒤 실행하는 문서 생성 단계<br>
+ * RestDocsProcessor 가 저장한 Catalog 와 실제로 생성된 snippet 목록으로 문서를 생성하기 때문에<br>
+ * Docs Annotation 의 exists* 값과 상관없이 존재하는 snippet 만 정해진 순서로 include 한다.<br>
+ * --inline true 로 실행하면 --inlineThreshold 이하 크기의 snippet 은 include 대신 내용을 직접 작성<br>
+ * --catalog, --snippets, --output, --templates, --parallelism, --navigation, --inline,<br>
+ * --inlineThreshold, --shardThreshold, --shardSize, --search, --format, --owner 인자를 지원<br>
+ * --owner 는 Manifest 에 기록할 소유 모듈로 Processor 의 restdocs.owner 옵션과 같은 값을 설정<br>
+ * --watch true 로 실행하면 DocsWatcher 로 변경을 감시하고 --debounce 로 대기 시간을 설정<br>
+ * --verbose true 를 함께 설정하면 문서를 다시 생성할 때마다 결과를 출력<br>
+ * --format html 로 실행하면 Asciidoctor 없이 HtmlGenerator 로 HTML 문서를 바로 생성<br>
+ * Processor 에 restdocs.assembler=true 옵션을 설정해서 Compile 에서는 Catalog 만 생성하고<br>
+ * Gradle 에서는 test 작업 뒤에 mainClass 가 DocsAssembler 인 JavaExec 작업을 등록한 뒤<br>
+ * asciidoctor 작업이 해당 작업에 dependsOn 하도록 설정해서<br>
+ * compileTestJava, test, DocsAssembler, asciidoctor 순서로 문서를 생성
+ * @since 2026. 10. 18. 오전 5:19:14
+ */
+public class DocsAssembler {
+
+  /**
+   * Snippet 직접 작성 기본 최대 크기
+   *
+   * @apiNote 64KB 보다 큰 snippet 은 include 로 작성
+   * @since 2026. 10. 18. 오전 5:20:17
+   */
+  private static final String DEFAULT_INLINE_THRESHOLD = "65536";
+  /**
+   * 감시 기본 대기 시간
+   *
+   * @apiNote 마지막 변경 뒤 이 시간 동안 다른 변경이 없으면 문서를 다시 생성<br>
+   * milliseconds
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  private static final String DEFAULT_DEBOUNCE = "100";
+
+  /**
+   * 문서 Directory
+   *
+   * @apiNote 문서 Directory
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private final Path outputPath;
+  /**
+   * Snippet Directory
+   *
+   * @apiNote Spring REST Docs 가 snippet 을 생성한 Directory
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private final Path snippetsPath;
+  /**
+   * 템플릿 Directory
+   *
+   * @apiNote 템플릿 Directory
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private final Path templatePath;
+  /**
+   * 병렬 처리 수준
+   *
+   * @apiNote snippet 탐색과 문서 생성에 사용할 Thread 개수
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private final int parallelism;
+  /**
+   * 계층 메뉴 여부
+   *
+   * @apiNote 계층 메뉴 여부
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private final boolean hierarchical;
+  /**
+   * Snippet 직접 작성 최대 크기
+   *
+   * @apiNote 이 크기 이하의 snippet 은 include 대신 내용을 문서에 직접 작성<br>
+   * 음수라면 모든 snippet 을 include 로 작성
+   * @since 2026. 10. 18. 오전 5:20:17
+   */
+  private final long inlineThreshold;
+  /**
+   * 문서 분할 기준
+   *
+   * @apiNote Docs 개수가 이 값보다 많은 DocsGroup 은 개요 문서와 분할 문서로 생성
+   * @since 2026. 10. 18. 오전 5:21:10
+   */
+  private final int shardThreshold;
+  /**
+   * 분할 문서 크기
+   *
+   * @apiNote 분할 문서 하나에 작성할 Docs 개수
+   * @since 2026. 10. 18. 오전 5:21:10
+   */
+  private final int shardSize;
+  /**
+   * 검색 사용 여부
+   *
+   * @apiNote 검색 색인과 검색 스크립트 생성 여부<br>
+   * --search true 로 실행할 때만 생성
+   * @since 2026. 10. 18. 오전 5:40:19
+   */
+  private final boolean search;
+  /**
+   * HTML 생성 여부
+   *
+   * @apiNote true 라면 AsciiDoc 문서 대신 HTML 문서를 생성<br>
+   * false 라면 Asciidoctor 로 변환할 AsciiDoc 문서를 생성
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private final boolean html;
+  /**
+   * 소유 모듈
+   *
+   * @apiNote Manifest 에 문서와 함께 기록할 모듈<br>
+   * 알 수 없다면 null 이고 Manifest 에 기록된 소유 모듈을 유지
+   * @since 2026. 10. 18. 오전 6:17:32
+   */
+  private final String owner;
+
+  public DocsAssembler(Path outputPath, Path snippetsPath, Path templatePath, int parallelism,
+      boolean hierarchical, long inlineThreshold, int shardThreshold, int shardSize,
+      boolean search) {
+    this(outputPath, snippetsPath, templatePath, parallelism, hierarchical, inlineThreshold,
+        shardThreshold, shardSize, search, false);
+  }
+
+  public DocsAssembler(Path outputPath, Path snippetsPath, Path templatePath, int parallelism,
+      boolean hierarchical, long inlineThreshold, int shardThreshold, int shardSize,
+      boolean search, boolean html) {
+    this(outputPath, snippetsPath, templatePath, parallelism, hierarchical, inlineThreshold,
+        shardThreshold, shardSize, search, html, null);
+  }
+
+  public DocsAssembler(Path outputPath, Path snippetsPath, Path templatePath, int parallelism,
+      boolean hierarchical, long inlineThreshold, int shardThreshold, int shardSize,
+      boolean search, boolean html, String owner) {
+    this.outputPath = outputPath.toAbsolutePath().normalize();
+    this.snippetsPath = snippetsPath.toAbsolutePath().normalize();
+    this.templatePath = templatePath.toAbsolutePath().normalize();
+    this.parallelism = parallelism;
+    this.hierarchical = hierarchical;
+    this.inlineThreshold = inlineThreshold;
+    this.shardThreshold = shardThreshold;
+    this.shardSize = shardSize;
+    this.search = search;
+    this.html = html;
+    this.owner = owner;
+  }
+
+  /**
+   * 실행
+   *
+   * @param args 실행 인자
+   * @throws IOException          the io exception
+   * @throws InterruptedException 감시 중에 중단된 경우
+   * @apiNote 인자를 설정하지 않으면 Gradle 기본 구조의 경로를 사용
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    Map<String, String> arguments = new HashMap<>();
+
+    if (args.length % 2 != 0) {
+      throw new IllegalArgumentException("Missing value for argument: " + args[args.length - 1]);
+    }
+
+    for (int i = 0; i + 1 < args.length; i += 2) {
+      if (!args[i].startsWith("--")) {
+        throw new IllegalArgumentException("Unknown argument: " + args[i]);
+      }
+
+      arguments.put(args[i].substring(2), args[i + 1]);
+    }
+
+    Path outputPath = Path.of(arguments.getOrDefault("output", "src/docs/asciidoc"));
+    Path catalogPath = ofNullable(arguments.get("catalog")).map(Path::of)
+        .orElse(outputPath.resolve(DocsCatalog.FILENAME));
+    DocsAssembler docsAssembler = new DocsAssembler(outputPath,
+        Path.of(arguments.getOrDefault("snippets", "build/generated-snippets")),
+        Path.of(arguments.getOrDefault("templates", "src/main/resources/asciidocs")),
+        ofNullable(arguments.get("parallelism")).map(Integer::parseInt)
+            .orElse(Runtime.getRuntime().availableProcessors()),
+        "hierarchical".equals(arguments.get("navigation")),
+        Boolean.parseBoolean(arguments.get("inline"))
+            ? Long.parseLong(arguments.getOrDefault("inlineThreshold", DEFAULT_INLINE_THRESHOLD))
+            : -1,
+        Integer.parseInt(arguments.getOrDefault("shardThreshold", "0")),
+        Integer.parseInt(arguments.getOrDefault("shardSize", "1")),
+        Boolean.parseBoolean(arguments.get("search")),
+        "html".equals(arguments.get("format")),
+        arguments.get("owner"));
+
+    // 문서를 생성한 뒤 템플릿, snippet, Catalog 변경을 감시하면서 영향받은 문서만 다시 생성
+    if (Boolean.parseBoolean(arguments.get("watch"))) {
+      if (docsAssembler.html) {
+        throw new IllegalArgumentException("--watch supports --format asciidoc only");
+      }
+
+      // --verbose true 로 실행했을 때만 다시 생성한 결과를 출력
+      new DocsWatcher(docsAssembler, catalogPath.toAbsolutePath().normalize(),
+          Long.parseLong(arguments.getOrDefault("debounce", DEFAULT_DEBOUNCE)),
+          Boolean.parseBoolean(arguments.get("verbose")) ? System.out::println : message -> {
+          }).watch();
+
+      return;
+    }
+
+    docsAssembler.assemble(DocsCatalog.read(Files.readString(catalogPath, UTF_8)));
+  }
+
+  /**
+   * 문서 생성
+   *
+   * @param docsGroupList DocsGroup 목록
+   * @throws IOException the io exception
+   * @apiNote Snippet Directory 를 한 번 탐색한 뒤 존재하는 snippet 만 include 해서 문서를 생성<br>
+   * snippet 이 하나도 없는 DocsGroup 은 빈 문서를 생성하지 않도록 메뉴와 문서에서 제외<br>
+   * HTML 문서라면 include 대신 snippet 을 HTML 로 변환해서 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  public void assemble(List<DocsGroupModel> docsGroupList) throws IOException {
+    SnippetIndex snippetIndex = scanSnippets();
+    List<DocsGroupModel> assembledList = withSnippets(docsGroupList, snippetIndex);
+
+    if (html) {
+      HtmlGenerator htmlGenerator = new HtmlGenerator(
+          new HtmlRenderer(TemplateCache.load(templatePath), snippetsPath, snippetIndex),
+          new NavigationRenderer(hierarchical, search), shardThreshold, shardSize,
+          search ? new SearchIndexRenderer() : null);
+
+      try (DocsPipeline docsPipeline = openPipeline(new DocsMetrics())) {
+        htmlGenerator.generate(docsPipeline, assembledList, PopupRegistry.of(assembledList));
+      }
+
+      return;
+    }
+
+    DocsGenerator docsGenerator = createGenerator(snippetIndex);
+
+    try (DocsPipeline docsPipeline = openPipeline(new DocsMetrics())) {
+      docsGenerator.generate(docsPipeline, assembledList, new IdentityHashMap<>());
+    }
+  }
+
+  /**
+   * Snippet 이 있는 DocsGroup 조회
+   *
+   * @param docsGroupList DocsGroup 목록
+   * @param snippetIndex  Snippet 목록
+   * @return the list
+   * @apiNote Test 를 실행하지 않은 DocsGroup 은 빈 접기 영역만 작성되기 때문에 제외
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  List<DocsGroupModel> withSnippets(List<DocsGroupModel> docsGroupList,
+      SnippetIndex snippetIndex) {
+    return docsGroupList.stream().filter(snippetIndex::exists).collect(Collectors.toList());
+  }
+
+  /**
+   * Snippet Directory 탐색
+   *
+   * @return the snippet index
+   * @throws IOException the io exception
+   * @apiNote Snippet Directory 탐색
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  SnippetIndex scanSnippets() throws IOException {
+    return SnippetIndex.scan(snippetsPath, parallelism);
+  }
+
+  /**
+   * Docs Generator 생성
+   *
+   * @param snippetIndex Snippet 목록
+   * @return the docs generator
+   * @throws IOException the io exception
+   * @apiNote 템플릿은 TemplateCache 로 읽기 때문에 변경된 템플릿만 다시 분석
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  DocsGenerator createGenerator(SnippetIndex snippetIndex) throws IOException {
+    DocsRenderer docsRenderer = new DocsRenderer(TemplateCache.load(templatePath),
+        outputPath.relativize(snippetsPath), snippetIndex,
+        inlineThreshold < 0 ? SnippetInliner.NONE : snippetIndex.inliner(inlineThreshold));
+
+    return new DocsGenerator(docsRenderer, new NavigationRenderer(hierarchical, search),
+        shardThreshold, shardSize, search ? new SearchIndexRenderer() : null);
+  }
+
+  /**
+   * Pipeline 생성
+   *
+   * @param metrics 처리 기록
+   * @return the docs pipeline
+   * @throws IOException the io exception
+   * @apiNote 문서 Directory 가 없다면 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  DocsPipeline openPipeline(DocsMetrics metrics) throws IOException {
+    Files.createDirectories(outputPath);
+
+    return new DocsPipeline(new PathDocsWriter(outputPath, DocsManifest.FILENAME, owner),
+        parallelism, true, metrics);
+  }
+
+  Path getOutputPath() {
+    return outputPath;
+  }
+
+  Path getSnippetsPath() {
+    return snippetsPath;
+  }
+
+  Path getTemplatePath() {
+    return templatePath;
+  }
+
+}
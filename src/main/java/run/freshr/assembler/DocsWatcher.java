@@ -0,0 +1,452 @@
+package run.freshr.assembler;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Objects.isNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import run.freshr.catalog.DocsCatalog;
+import run.freshr.metrics.DocsMetrics;
+import run.freshr.metrics.DocsMetrics.Counter;
+import run.freshr.model.DocsGroupModel;
+import run.freshr.model.DocsPopupModel;
+import run.freshr.renderer.DocsGenerator;
+import run.freshr.renderer.PopupRegistry;
+import run.freshr.template.TemplateCache;
+import run.freshr.writer.DocsPipeline;
+
+/**
+ * Docs Watcher.
+ *
+ * @author FreshR
+ * @apiNote DocsAssembler 와 같은 방법으로 문서를 생성한 뒤<br>
+ * 템플릿 Directory, Snippet Directory, Catalog 파일을 WatchService 로 감시해서<br>
+ * 변경에 영향받은 DocsGroup, 팝업, index 문서만 다시 생성<br>
+ * 짧은 시간 안에 연달아 발생한 변경은 debounce 시간 동안 모아서 한 번에 처리
+ * @since 2026. 10. 18. 오전 5:55:34
+ */
+public class DocsWatcher {
+
+  /**
+   * Snippet Directory 감시 깊이
+   *
+   * @apiNote {group}/{method} Directory 까지 감시
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  private static final int SNIPPET_DEPTH = 2;
+
+  /**
+   * Docs Assembler
+   *
+   * @apiNote 문서 생성 설정과 경로
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  private final DocsAssembler docsAssembler;
+  /**
+   * Catalog 경로
+   *
+   * @apiNote Catalog 경로
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  private final Path catalogPath;
+  /**
+   * 대기 시간
+   *
+   * @apiNote 마지막 변경 뒤 이 시간 동안 다른 변경이 없으면 문서를 다시 생성<br>
+   * milliseconds
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  private final long debounceMillis;
+  /**
+   * 감시 Directory 목록
+   *
+   * @apiNote WatchKey 별 감시 Directory
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  private final Map<WatchKey, Path> directoryMap = new HashMap<>();
+  /**
+   * 처리 결과 수신
+   *
+   * @apiNote 문서를 다시 생성할 때마다 저장한 파일 개수와 처리 시간을 전달<br>
+   * 출력 방법은 호출하는 쪽에서 결정
+   * @since 2026. 10. 18. 오전 6:18:24
+   */
+  private final Consumer<String> listener;
+
+  /**
+   * DocsGroup 목록
+   *
+   * @apiNote 마지막으로 읽은 Catalog 의 DocsGroup 목록
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  private List<DocsGroupModel> docsGroupList;
+  /**
+   * 문서를 생성한 DocsGroup 목록
+   *
+   * @apiNote snippet 이 있는 DocsGroup 목록<br>
+   * 목록이 바뀌면 메뉴를 다시 생성
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  private List<DocsGroupModel> assembledGroupList;
+  /**
+   * 팝업 목록
+   *
+   * @apiNote 마지막으로 읽은 Catalog 의 팝업 목록
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  private PopupRegistry popupRegistry;
+  /**
+   * Snippet 목록
+   *
+   * @apiNote 변경된 DocsGroup Directory 만 다시 탐색
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  private SnippetIndex snippetIndex;
+  /**
+   * Docs Generator
+   *
+   * @apiNote 템플릿이 변경되면 다시 생성
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  private DocsGenerator docsGenerator;
+
+  public DocsWatcher(DocsAssembler docsAssembler, Path catalogPath, long debounceMillis) {
+    this(docsAssembler, catalogPath, debounceMillis, message -> {
+    });
+  }
+
+  public DocsWatcher(DocsAssembler docsAssembler, Path catalogPath, long debounceMillis,
+      Consumer<String> listener) {
+    this.docsAssembler = docsAssembler;
+    this.catalogPath = catalogPath;
+    this.debounceMillis = debounceMillis;
+    this.listener = listener;
+  }
+
+  /**
+   * 감시
+   *
+   * @throws IOException          the io exception
+   * @throws InterruptedException 감시 중에 중단된 경우
+   * @apiNote 전체 문서를 한 번 생성한 뒤 중단될 때까지 변경을 감시
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  public void watch() throws IOException, InterruptedException {
+    Path templatePath = docsAssembler.getTemplatePath();
+    Path snippetsPath = docsAssembler.getSnippetsPath();
+
+    docsGroupList = readCatalog();
+    popupRegistry = PopupRegistry.of(docsGroupList);
+
+    try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+      if (Files.isDirectory(templatePath)) {
+        register(watchService, templatePath);
+      }
+
+      // Test 를 실행하기 전이라 Snippet Directory 가 없다면 생성될 때부터 감시
+      if (Files.isDirectory(snippetsPath)) {
+        registerSnippets(watchService, snippetsPath);
+      } else if (Files.isDirectory(snippetsPath.getParent())) {
+        register(watchService, snippetsPath.getParent());
+      }
+
+      register(watchService, catalogPath.getParent());
+
+      Changes initial = new Changes();
+
+      initial.all = true;
+      apply(initial);
+
+      while (true) {
+        WatchKey watchKey = watchService.take();
+        Changes changes = new Changes();
+
+        // 대기 시간 안에 발생한 변경을 모두 모아서 한 번에 처리
+        do {
+          collect(watchKey, changes);
+          watchKey = watchService.poll(debounceMillis, MILLISECONDS);
+        } while (!isNull(watchKey));
+
+        // Watcher 가 문서 Directory 에 생성한 문서처럼 감시 대상이 아닌 변경은 무시
+        if (changes.isEmpty()) {
+          continue;
+        }
+
+        // 새로 생성된 Directory 는 변경이 멈춘 뒤에 등록해야 하위 Directory 를 놓치지 않는다.
+        // 등록하기 전에 생성된 Snippet 은 다시 탐색할 때 포함된다.
+        if (changes.snippets && Files.isDirectory(snippetsPath)) {
+          registerSnippets(watchService, snippetsPath);
+        }
+
+        for (String group : changes.groupSet) {
+          if (Files.isDirectory(snippetsPath.resolve(group))) {
+            registerSnippets(watchService, snippetsPath.resolve(group));
+          }
+        }
+
+        apply(changes);
+      }
+    }
+  }
+
+  /**
+   * 변경 수집
+   *
+   * @param watchKey the watch key
+   * @param changes  변경 목록
+   * @apiNote 변경된 파일 경로로 다시 생성할 문서 종류를 구분
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  private void collect(WatchKey watchKey, Changes changes) {
+    Path directory = directoryMap.get(watchKey);
+    Path templatePath = docsAssembler.getTemplatePath();
+    Path snippetsPath = docsAssembler.getSnippetsPath();
+
+    for (WatchEvent<?> event : watchKey.pollEvents()) {
+      // 놓친 변경이 있다면 전체 문서를 다시 생성
+      if (event.kind() == OVERFLOW || isNull(directory)) {
+        changes.all = true;
+
+        continue;
+      }
+
+      Path path = directory.resolve((Path) event.context());
+
+      if (path.equals(catalogPath)) {
+        changes.catalog = true;
+      } else if (path.startsWith(snippetsPath)) {
+        if (path.equals(snippetsPath)) {
+          changes.snippets = true;
+        } else {
+          changes.groupSet.add(snippetsPath.relativize(path).getName(0).toString());
+        }
+      } else if (directory.equals(templatePath)) {
+        changes.templateSet.add(path.getFileName().toString());
+      }
+    }
+
+    if (!watchKey.reset()) {
+      directoryMap.remove(watchKey);
+    }
+  }
+
+  /**
+   * 변경 적용
+   *
+   * @param changes 변경 목록
+   * @throws IOException the io exception
+   * @apiNote 변경에 영향받은 문서만 다시 생성<br>
+   * default-top, default-bottom 은 모든 DocsGroup 과 index,<br>
+   * popup-top, popup-bottom 은 모든 팝업, index.adoc 은 index 문서에 영향을 준다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  private void apply(Changes changes) throws IOException {
+    long start = System.nanoTime();
+    boolean all = changes.all;
+    boolean index = all || changes.templateSet.contains(TemplateCache.INDEX);
+    boolean allGroups = all || changes.snippets;
+    boolean allPopups = all || changes.templateSet.contains(TemplateCache.POPUP_TOP)
+        || changes.templateSet.contains(TemplateCache.POPUP_BOTTOM);
+    boolean navigation = all;
+    Set<String> groupSet = new HashSet<>(changes.groupSet);
+    PopupRegistry changedPopups = new PopupRegistry();
+
+    if (changes.templateSet.contains(TemplateCache.DEFAULT_TOP)
+        || changes.templateSet.contains(TemplateCache.DEFAULT_BOTTOM)) {
+      index = true;
+      allGroups = true;
+    }
+
+    // Catalog 가 바뀌면 내용이 달라진 DocsGroup 과 팝업만 다시 생성
+    if (changes.catalog && !all) {
+      List<DocsGroupModel> changedGroupList = readCatalog();
+      PopupRegistry changedRegistry = PopupRegistry.of(changedGroupList);
+      Set<DocsGroupModel> previousSet = new HashSet<>(docsGroupList);
+
+      for (DocsGroupModel groupModel : changedGroupList) {
+        if (!previousSet.contains(groupModel)) {
+          groupSet.add(groupModel.getPath());
+        }
+      }
+
+      for (DocsPopupModel popup : changedRegistry.getPopupList()) {
+        if (!popup.equals(popupRegistry.get(popup.getName()))) {
+          changedPopups.register(popup);
+        }
+      }
+
+      navigation = !changedGroupList.equals(docsGroupList);
+      docsGroupList = changedGroupList;
+      popupRegistry = changedRegistry;
+    }
+
+    if (allGroups) {
+      snippetIndex = docsAssembler.scanSnippets();
+    } else {
+      for (String group : changes.groupSet) {
+        snippetIndex.refresh(group);
+      }
+    }
+
+    // snippet 이 생기거나 모두 사라진 DocsGroup 이 있다면 메뉴도 다시 생성
+    List<DocsGroupModel> assembledList = docsAssembler.withSnippets(docsGroupList, snippetIndex);
+
+    navigation = navigation || !assembledList.equals(assembledGroupList);
+    assembledGroupList = assembledList;
+
+    // 템플릿은 TemplateCache 가 변경된 파일만 다시 분석
+    if (isNull(docsGenerator) || allGroups || !changes.templateSet.isEmpty()) {
+      docsGenerator = docsAssembler.createGenerator(snippetIndex);
+    }
+
+    DocsMetrics metrics = new DocsMetrics();
+
+    try (DocsPipeline docsPipeline = docsAssembler.openPipeline(metrics)) {
+      if (navigation) {
+        docsGenerator.generateNavigation(docsPipeline, assembledGroupList);
+      }
+
+      if (index) {
+        docsGenerator.generateIndex(docsPipeline);
+      }
+
+      docsGenerator.generatePopups(docsPipeline, allPopups ? popupRegistry : changedPopups);
+      docsGenerator.generateGroups(docsPipeline, allGroups ? assembledGroupList
+          : assembledGroupList.stream()
+              .filter(groupModel -> groupSet.contains(groupModel.getPath()))
+              .collect(Collectors.toList()), new IdentityHashMap<>());
+    }
+
+    listener.accept("[restdocs] " + metrics.get(Counter.FILES_WRITTEN) + " written, "
+        + metrics.get(Counter.FILES_UNCHANGED) + " unchanged in "
+        + (System.nanoTime() - start) / 1_000_000 + " ms");
+  }
+
+  /**
+   * Catalog 조회
+   *
+   * @return the list
+   * @throws IOException the io exception
+   * @apiNote 비교할 수 있도록 GROUP_ORDER 로 정렬
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  private List<DocsGroupModel> readCatalog() throws IOException {
+    List<DocsGroupModel> groupList = new ArrayList<>(
+        DocsCatalog.read(Files.readString(catalogPath, UTF_8)));
+
+    groupList.sort(DocsGenerator.GROUP_ORDER);
+
+    return groupList;
+  }
+
+  /**
+   * Snippet Directory 감시 등록
+   *
+   * @param watchService the watch service
+   * @param directory    Snippet Directory 또는 하위 Directory
+   * @throws IOException the io exception
+   * @apiNote WatchService 는 하위 Directory 를 감시하지 않기 때문에 {group}/{method} 까지 모두 등록
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  private void registerSnippets(WatchService watchService, Path directory) throws IOException {
+    Path snippetsPath = docsAssembler.getSnippetsPath();
+    int depth = directory.equals(snippetsPath) ? SNIPPET_DEPTH
+        : SNIPPET_DEPTH - snippetsPath.relativize(directory).getNameCount();
+
+    if (depth < 0) {
+      return;
+    }
+
+    List<Path> directoryList;
+
+    try (Stream<Path> stream = Files.walk(directory, depth)) {
+      directoryList = stream.filter(Files::isDirectory).collect(Collectors.toList());
+    }
+
+    for (Path path : directoryList) {
+      register(watchService, path);
+    }
+  }
+
+  private void register(WatchService watchService, Path directory) throws IOException {
+    directoryMap.put(directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE),
+        directory);
+  }
+
+  /**
+   * 변경 목록
+   *
+   * @author FreshR
+   * @apiNote debounce 시간 동안 모은 변경
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  private static final class Changes {
+
+    /**
+     * 전체 변경 여부
+     *
+     * @apiNote 처음 실행하거나 놓친 변경이 있을 때 true
+     * @since 2026. 10. 18. 오전 5:55:34
+     */
+    private boolean all;
+    /**
+     * Catalog 변경 여부
+     *
+     * @apiNote Catalog 변경 여부
+     * @since 2026. 10. 18. 오전 5:55:34
+     */
+    private boolean catalog;
+    /**
+     * Snippet Directory 생성 여부
+     *
+     * @apiNote Snippet Directory 자체가 생성되거나 삭제되면 true
+     * @since 2026. 10. 18. 오전 5:55:34
+     */
+    private boolean snippets;
+    /**
+     * 변경된 템플릿 파일 이름 목록
+     *
+     * @apiNote 변경된 템플릿 파일 이름 목록
+     * @since 2026. 10. 18. 오전 5:55:34
+     */
+    private final Set<String> templateSet = new HashSet<>();
+    /**
+     * Snippet 이 변경된 DocsGroup 목록
+     *
+     * @apiNote DocsGroup include 경로 목록
+     * @since 2026. 10. 18. 오전 5:55:34
+     */
+    private final Set<String> groupSet = new HashSet<>();
+
+    private boolean isEmpty() {
+      return !all && !catalog && !snippets && templateSet.isEmpty() && groupSet.isEmpty();
+    }
+
+  }
+
+}
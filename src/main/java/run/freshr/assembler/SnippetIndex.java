@@ -0,0 +1,247 @@
+package run.freshr.assembler;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Objects.isNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import run.freshr.enumeration.SnippetType;
+import run.freshr.model.DocsGroupModel;
+import run.freshr.model.DocsModel;
+import run.freshr.renderer.SnippetInliner;
+import run.freshr.renderer.SnippetSelector;
+
+/**
+ * Snippet Index.
+ *
+ * @author FreshR
+ * @apiNote Snippet Directory 를 한 번만 탐색해서 {group}/{method}/{snippet}.adoc 목록을 저장<br>
+ * DocsGroup Directory 단위로 병렬 탐색하고<br>
+ * 실제로 존재하는 snippet 만 include 하도록 SnippetSelector 로 사용<br>
+ * 탐색할 때 파일 크기도 함께 저장해서 inline 여부를 파일을 다시 조회하지 않고 판단
+ * @since 2026. 10. 18. 오전 5:19:14
+ */
+public class SnippetIndex implements SnippetSelector {
+
+  /**
+   * Snippet 확장자
+   *
+   * @apiNote Snippet 확장자
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private static final String EXTENSION = ".adoc";
+
+  /**
+   * Snippet Directory
+   *
+   * @apiNote Snippet Directory
+   * @since 2026. 10. 18. 오전 5:20:17
+   */
+  private final Path snippetsPath;
+  /**
+   * Snippet 목록
+   *
+   * @apiNote {group}/{method} 별 snippet 이름과 파일 크기 목록
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private final Map<String, Map<String, Long>> snippetMap;
+
+  private SnippetIndex(Path snippetsPath, Map<String, Map<String, Long>> snippetMap) {
+    this.snippetsPath = snippetsPath;
+    this.snippetMap = snippetMap;
+  }
+
+  /**
+   * Snippet Directory 탐색
+   *
+   * @param snippetsPath Snippet Directory
+   * @param parallelism  탐색에 사용할 Thread 개수
+   * @return the snippet index
+   * @throws IOException the io exception
+   * @apiNote Snippet Directory 가 없다면 빈 목록을 반환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  public static SnippetIndex scan(Path snippetsPath, int parallelism) throws IOException {
+    Map<String, Map<String, Long>> snippetMap = new ConcurrentHashMap<>();
+
+    if (!Files.isDirectory(snippetsPath)) {
+      return new SnippetIndex(snippetsPath, snippetMap);
+    }
+
+    List<Path> groupPathList = new ArrayList<>();
+
+    try (Stream<Path> stream = Files.list(snippetsPath)) {
+      stream.filter(Files::isDirectory).forEach(groupPathList::add);
+    }
+
+    if (parallelism <= 1) {
+      for (Path groupPath : groupPathList) {
+        scanGroup(snippetMap, groupPath);
+      }
+
+      return new SnippetIndex(snippetsPath, snippetMap);
+    }
+
+    ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+
+    try {
+      forkJoinPool.submit(() -> groupPathList.parallelStream()
+          .forEach(groupPath -> scanGroup(snippetMap, groupPath))).join();
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    } finally {
+      forkJoinPool.shutdown();
+    }
+
+    return new SnippetIndex(snippetsPath, snippetMap);
+  }
+
+  /**
+   * DocsGroup Snippet 다시 탐색
+   *
+   * @param group DocsGroup include 경로
+   * @throws IOException the io exception
+   * @apiNote 감시 중에 snippet 이 바뀐 DocsGroup Directory 만 다시 탐색
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  public void refresh(String group) throws IOException {
+    snippetMap.keySet().removeIf(key -> key.startsWith(group + "/"));
+
+    Path groupPath = snippetsPath.resolve(group);
+
+    if (!Files.isDirectory(groupPath)) {
+      return;
+    }
+
+    try {
+      scanGroup(snippetMap, groupPath);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * DocsGroup Directory 탐색
+   *
+   * @param snippetMap Snippet 목록
+   * @param groupPath  DocsGroup Directory
+   * @apiNote {method}/{snippet}.adoc 구조의 파일만 저장
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private static void scanGroup(Map<String, Map<String, Long>> snippetMap, Path groupPath) {
+    String group = groupPath.getFileName().toString();
+
+    try {
+      // 탐색 중에 읽은 파일 속성으로 크기를 저장해서 파일마다 다시 조회하지 않는다.
+      Files.walkFileTree(groupPath, emptySet(), 2, new SimpleFileVisitor<>() {
+        @Override
+        public FileVisitResult visitFile(Path path, BasicFileAttributes attributes) {
+          String filename = path.getFileName().toString();
+
+          if (attributes.isRegularFile() && filename.endsWith(EXTENSION)
+              && !groupPath.equals(path.getParent())) {
+            snippetMap.computeIfAbsent(group + "/" + path.getParent().getFileName(),
+                    key -> new ConcurrentHashMap<>())
+                .put(filename.substring(0, filename.length() - EXTENSION.length()),
+                    attributes.size());
+          }
+
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Snippet 존재 여부 조회
+   *
+   * @param group   DocsGroup include 경로
+   * @param method  Docs include 경로
+   * @param snippet snippet 이름
+   * @return the boolean
+   * @apiNote Snippet 존재 여부 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  public boolean exists(String group, String method, String snippet) {
+    return snippetMap.getOrDefault(group + "/" + method, emptyMap()).containsKey(snippet);
+  }
+
+  /**
+   * DocsGroup Snippet 존재 여부 조회
+   *
+   * @param groupModel the group model
+   * @return the boolean
+   * @apiNote DocsGroup 의 Docs 중에서 문서에 작성할 snippet 이 하나라도 있는지 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  public boolean exists(DocsGroupModel groupModel) {
+    for (DocsModel docsModel : groupModel.getDocsList()) {
+      for (SnippetType snippetType : SnippetType.values()) {
+        if (select(groupModel.getPath(), docsModel, snippetType)) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Snippet 직접 작성 방법 생성
+   *
+   * @param threshold 직접 작성할 최대 파일 크기<br>
+   *                  파일이 더 크다면 include 로 작성
+   * @return the snippet inliner
+   * @apiNote 파일 전체를 한 번에 읽어서 문서에 작성<br>
+   * snippet 은 대부분 수 KB 이하라서 Memory Map 보다 한 번에 읽는 것이 빠르다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:20:17
+   */
+  public SnippetInliner inliner(long threshold) {
+    return (groupPath, docsModel, snippetType) -> {
+      Long size = snippetMap.getOrDefault(groupPath + "/" + docsModel.getPath(), emptyMap())
+          .get(snippetType.getName());
+
+      if (isNull(size) || size > threshold) {
+        return null;
+      }
+
+      try {
+        return new String(Files.readAllBytes(snippetsPath.resolve(groupPath)
+            .resolve(docsModel.getPath()).resolve(snippetType.getFilename())), UTF_8);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    };
+  }
+
+  public int size() {
+    return snippetMap.size();
+  }
+
+  @Override
+  public boolean select(String groupPath, DocsModel docsModel, SnippetType snippetType) {
+    return exists(groupPath, docsModel.getPath(), snippetType.getName());
+  }
+
+}
@@ -0,0 +1,217 @@
+package run.freshr.catalog;
+
+import static java.util.Objects.isNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import run.freshr.enumeration.SnippetType;
+import run.freshr.model.DocsGroupModel;
+import run.freshr.model.DocsModel;
+import run.freshr.model.DocsPopupModel;
+import run.freshr.renderer.DocsRenderer;
+
+/**
+ * Docs Catalog.
+ *
+ * @author FreshR
+ * @apiNote Processor 가 읽은 DocsGroupModel 목록을 JSON 으로 저장하고 다시 읽는 기능<br>
+ * Test 가 끝난 뒤 DocsAssembler 가 Annotation 정보 없이 문서를 생성할 때 사용하고<br>
+ * CLASS_OUTPUT 의 META-INF/restdocs/catalog.json 으로도 저장해서 다른 도구가 API 목록으로 사용
+ * @since 2026. 10. 18. 오전 5:19:14
+ */
+public class DocsCatalog {
+
+  /**
+   * Catalog 파일 이름
+   *
+   * @apiNote 문서 Directory 에 생성하는 Catalog 파일 이름
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  public static final String FILENAME = ".restdocs-catalog.json";
+  /**
+   * Catalog Resource 경로
+   *
+   * @apiNote CLASS_OUTPUT 기준 Catalog 경로<br>
+   * Test jar 에 포함되기 때문에 다른 도구가 classpath 에서 읽을 수 있다.
+   * @since 2026. 10. 18. 오전 5:40:59
+   */
+  public static final String RESOURCE = "META-INF/restdocs/catalog.json";
+  /**
+   * Catalog 형식 버전
+   *
+   * @apiNote 기존 항목의 의미가 바뀌거나 항목이 제거되면 증가<br>
+   * 항목 추가는 버전을 바꾸지 않으므로 읽는 쪽은 모르는 항목을 무시해야 한다.
+   * @since 2026. 10. 18. 오전 5:40:59
+   */
+  public static final int VERSION = 1;
+
+  private DocsCatalog() {
+  }
+
+  /**
+   * Catalog 작성
+   *
+   * @param docsGroupList DocsGroup 목록
+   * @return the string
+   * @apiNote StringBuilder 에 작성하기 때문에 IOException 이 발생하지 않는다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  public static String write(List<DocsGroupModel> docsGroupList) {
+    StringBuilder stringBuilder = new StringBuilder(docsGroupList.size() * 512);
+
+    try {
+      write(stringBuilder, docsGroupList);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return stringBuilder.toString();
+  }
+
+  /**
+   * Catalog 작성
+   *
+   * @param output        출력 대상
+   * @param docsGroupList DocsGroup 목록
+   * @throws IOException the io exception
+   * @apiNote 전체 내용을 문자열로 만들지 않고 출력 대상에 바로 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:40:59
+   */
+  public static void write(Appendable output, List<DocsGroupModel> docsGroupList)
+      throws IOException {
+    JsonWriter jsonWriter = new JsonWriter(output);
+
+    jsonWriter.beginObject()
+        .property("version", VERSION)
+        .name("groups").beginArray();
+
+    for (DocsGroupModel groupModel : docsGroupList) {
+      jsonWriter.beginObject()
+          .property("path", groupModel.getPath())
+          .property("name", groupModel.getName())
+          .property("description", groupModel.getDescription())
+          .property("document", DocsRenderer.documentName(groupModel))
+          .name("docs").beginArray();
+
+      for (DocsModel docsModel : groupModel.getDocsList()) {
+        writeDocs(jsonWriter, groupModel, docsModel);
+      }
+
+      jsonWriter.endArray().endObject();
+    }
+
+    jsonWriter.endArray().endObject();
+  }
+
+  /**
+   * Catalog 조회
+   *
+   * @param contents Catalog 내용
+   * @return the list
+   * @throws IOException Catalog 형식이 아닌 경우
+   * @apiNote Catalog 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  public static List<DocsGroupModel> read(String contents) throws IOException {
+    Object root = JsonReader.read(contents);
+
+    if (!(root instanceof Map<?, ?> rootMap)
+        || !(rootMap.get("groups") instanceof List<?> groups)) {
+      throw new IOException("Invalid docs catalog");
+    }
+
+    // 버전이 없는 Catalog 는 처음 형식과 같다.
+    if (rootMap.get("version") instanceof Long version && version > VERSION) {
+      throw new IOException("Unsupported docs catalog version: " + version);
+    }
+
+    List<DocsGroupModel> docsGroupList = new ArrayList<>(groups.size());
+
+    for (Object group : groups) {
+      Map<?, ?> groupMap = (Map<?, ?>) group;
+      List<DocsModel> docsList = new ArrayList<>();
+
+      for (Object docs : (List<?>) groupMap.get("docs")) {
+        docsList.add(readDocs((Map<?, ?>) docs));
+      }
+
+      docsGroupList.add(DocsGroupModel.builder()
+          .path((String) groupMap.get("path"))
+          .name((String) groupMap.get("name"))
+          .description((String) groupMap.get("description"))
+          .docsList(docsList)
+          .build());
+    }
+
+    return docsGroupList;
+  }
+
+  private static void writeDocs(JsonWriter jsonWriter, DocsGroupModel groupModel,
+      DocsModel docsModel) throws IOException {
+    jsonWriter.beginObject()
+        .property("path", docsModel.getPath())
+        .property("description", docsModel.getDescription())
+        .property("existsPathParameters", Boolean.TRUE.equals(docsModel.getExistsPathParameters()))
+        .property("existsRequestParts", Boolean.TRUE.equals(docsModel.getExistsRequestParts()))
+        .property("existsQueryParameters",
+            Boolean.TRUE.equals(docsModel.getExistsQueryParameters()))
+        .property("existsFormParameters", Boolean.TRUE.equals(docsModel.getExistsFormParameters()))
+        .property("existsRequestFields", Boolean.TRUE.equals(docsModel.getExistsRequestFields()))
+        .property("existsResponseFields",
+            Boolean.TRUE.equals(docsModel.getExistsResponseFields()))
+        .name("snippets").beginArray();
+
+    // Docs Annotation 기준으로 문서에 include 하는 snippet 경로 목록
+    for (SnippetType snippetType : SnippetType.values()) {
+      if (snippetType.isFlagged(docsModel)) {
+        jsonWriter.value(groupModel.getPath() + "/" + docsModel.getPath() + "/"
+            + snippetType.getFilename());
+      }
+    }
+
+    jsonWriter.endArray().name("popup").beginArray();
+
+    if (!isNull(docsModel.getPopupList())) {
+      for (DocsPopupModel popup : docsModel.getPopupList()) {
+        jsonWriter.beginObject()
+            .property("name", popup.getName())
+            .property("include", popup.getInclude())
+            .endObject();
+      }
+    }
+
+    jsonWriter.endArray().endObject();
+  }
+
+  private static DocsModel readDocs(Map<?, ?> docsMap) {
+    List<DocsPopupModel> popupList = new ArrayList<>();
+
+    for (Object popup : (List<?>) docsMap.get("popup")) {
+      Map<?, ?> popupMap = (Map<?, ?>) popup;
+
+      popupList.add(DocsPopupModel.builder()
+          .name((String) popupMap.get("name"))
+          .include((String) popupMap.get("include"))
+          .build());
+    }
+
+    return DocsModel.builder()
+        .path((String) docsMap.get("path"))
+        .description((String) docsMap.get("description"))
+        .existsPathParameters((Boolean) docsMap.get("existsPathParameters"))
+        .existsRequestParts((Boolean) docsMap.get("existsRequestParts"))
+        .existsQueryParameters((Boolean) docsMap.get("existsQueryParameters"))
+        .existsFormParameters((Boolean) docsMap.get("existsFormParameters"))
+        .existsRequestFields((Boolean) docsMap.get("existsRequestFields"))
+        .existsResponseFields((Boolean) docsMap.get("existsResponseFields"))
+        .popupList(popupList)
+        .build();
+  }
+
+}
@@ -0,0 +1,236 @@
+package run.freshr.catalog;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Json Reader.
+ *
+ * @author FreshR
+ * @apiNote 외부 라이브러리 없이 JSON 을 읽는 Reader<br>
+ * 객체는 Map, 배열은 List, 숫자는 Long 또는 Double 로 변환
+ * @since 2026. 10. 18. 오전 5:19:14
+ */
+public class JsonReader {
+
+  /**
+   * JSON 내용
+   *
+   * @apiNote JSON 내용
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private final String source;
+  /**
+   * 현재 위치
+   *
+   * @apiNote 현재 위치
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private int index;
+
+  private JsonReader(String source) {
+    this.source = source;
+  }
+
+  /**
+   * JSON 변환
+   *
+   * @param source JSON 내용
+   * @return the object
+   * @throws IOException JSON 형식이 아닌 경우
+   * @apiNote JSON 변환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  public static Object read(String source) throws IOException {
+    JsonReader reader = new JsonReader(source);
+    Object value = reader.readValue();
+
+    reader.skipWhitespace();
+
+    if (reader.index != source.length()) {
+      throw reader.error("Unexpected trailing content");
+    }
+
+    return value;
+  }
+
+  private Object readValue() throws IOException {
+    skipWhitespace();
+
+    if (index >= source.length()) {
+      throw error("Unexpected end of JSON");
+    }
+
+    char c = source.charAt(index);
+
+    return switch (c) {
+      case '{' -> readObject();
+      case '[' -> readArray();
+      case '"' -> readString();
+      case 't' -> readLiteral("true", Boolean.TRUE);
+      case 'f' -> readLiteral("false", Boolean.FALSE);
+      case 'n' -> readLiteral("null", null);
+      default -> readNumber();
+    };
+  }
+
+  private Map<String, Object> readObject() throws IOException {
+    Map<String, Object> object = new LinkedHashMap<>();
+
+    index++;
+    skipWhitespace();
+
+    if (peek() == '}') {
+      index++;
+
+      return object;
+    }
+
+    while (true) {
+      skipWhitespace();
+
+      String name = readString();
+
+      skipWhitespace();
+      expect(':');
+      object.put(name, readValue());
+      skipWhitespace();
+
+      if (peek() == ',') {
+        index++;
+
+        continue;
+      }
+
+      expect('}');
+
+      return object;
+    }
+  }
+
+  private List<Object> readArray() throws IOException {
+    List<Object> array = new ArrayList<>();
+
+    index++;
+    skipWhitespace();
+
+    if (peek() == ']') {
+      index++;
+
+      return array;
+    }
+
+    while (true) {
+      array.add(readValue());
+      skipWhitespace();
+
+      if (peek() == ',') {
+        index++;
+
+        continue;
+      }
+
+      expect(']');
+
+      return array;
+    }
+  }
+
+  private String readString() throws IOException {
+    expect('"');
+
+    StringBuilder stringBuilder = new StringBuilder();
+
+    while (index < source.length()) {
+      char c = source.charAt(index++);
+
+      if (c == '"') {
+        return stringBuilder.toString();
+      }
+
+      if (c != '\\') {
+        stringBuilder.append(c);
+
+        continue;
+      }
+
+      char escape = source.charAt(index++);
+
+      switch (escape) {
+        case 'b' -> stringBuilder.append('\b');
+        case 'f' -> stringBuilder.append('\f');
+        case 'n' -> stringBuilder.append('\n');
+        case 'r' -> stringBuilder.append('\r');
+        case 't' -> stringBuilder.append('\t');
+        case 'u' -> {
+          stringBuilder.append((char) Integer.parseInt(source.substring(index, index + 4), 16));
+          index += 4;
+        }
+        default -> stringBuilder.append(escape);
+      }
+    }
+
+    throw error("Unterminated string");
+  }
+
+  private Object readLiteral(String literal, Object value) throws IOException {
+    if (!source.startsWith(literal, index)) {
+      throw error("Unexpected token");
+    }
+
+    index += literal.length();
+
+    return value;
+  }
+
+  private Number readNumber() throws IOException {
+    int start = index;
+
+    while (index < source.length() && "+-0123456789.eE".indexOf(source.charAt(index)) >= 0) {
+      index++;
+    }
+
+    String number = source.substring(start, index);
+
+    if (number.isEmpty()) {
+      throw error("Unexpected token");
+    }
+
+    if (number.contains(".") || number.contains("e") || number.contains("E")) {
+      return Double.parseDouble(number);
+    }
+
+    return Long.parseLong(number);
+  }
+
+  private char peek() throws IOException {
+    if (index >= source.length()) {
+      throw error("Unexpected end of JSON");
+    }
+
+    return source.charAt(index);
+  }
+
+  private void expect(char c) throws IOException {
+    if (peek() != c) {
+      throw error("Expected '" + c + "'");
+    }
+
+    index++;
+  }
+
+  private void skipWhitespace() {
+    while (index < source.length() && Character.isWhitespace(source.charAt(index))) {
+      index++;
+    }
+  }
+
+  private IOException error(String message) {
+    return new IOException(message + " at " + index);
+  }
+
+}
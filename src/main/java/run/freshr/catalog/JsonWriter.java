@@ -0,0 +1,146 @@
+package run.freshr.catalog;
+
+import java.io.IOException;
+
+/**
+ * Json Writer.
+ *
+ * @author FreshR
+ * @apiNote 외부 라이브러리 없이 JSON 을 바로 출력하는 Writer<br>
+ * 쉼표와 들여쓰기 없이 순서대로 출력
+ * @since 2026. 10. 18. 오전 5:19:14
+ */
+public class JsonWriter {
+
+  /**
+   * 출력 대상
+   *
+   * @apiNote 출력 대상
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private final Appendable output;
+  /**
+   * 쉼표 필요 여부
+   *
+   * @apiNote 같은 객체나 배열의 두 번째 값부터 쉼표를 출력
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private boolean comma;
+
+  public JsonWriter(Appendable output) {
+    this.output = output;
+  }
+
+  public JsonWriter beginObject() throws IOException {
+    separate();
+    output.append('{');
+    comma = false;
+
+    return this;
+  }
+
+  public JsonWriter endObject() throws IOException {
+    output.append('}');
+    comma = true;
+
+    return this;
+  }
+
+  public JsonWriter beginArray() throws IOException {
+    separate();
+    output.append('[');
+    comma = false;
+
+    return this;
+  }
+
+  public JsonWriter endArray() throws IOException {
+    output.append(']');
+    comma = true;
+
+    return this;
+  }
+
+  public JsonWriter name(String name) throws IOException {
+    separate();
+    string(name);
+    output.append(':');
+    comma = false;
+
+    return this;
+  }
+
+  public JsonWriter value(String value) throws IOException {
+    separate();
+
+    if (value == null) {
+      output.append("null");
+    } else {
+      string(value);
+    }
+
+    comma = true;
+
+    return this;
+  }
+
+  public JsonWriter value(boolean value) throws IOException {
+    separate();
+    output.append(String.valueOf(value));
+    comma = true;
+
+    return this;
+  }
+
+  public JsonWriter value(long value) throws IOException {
+    separate();
+    output.append(String.valueOf(value));
+    comma = true;
+
+    return this;
+  }
+
+  public JsonWriter property(String name, String value) throws IOException {
+    return name(name).value(value);
+  }
+
+  public JsonWriter property(String name, boolean value) throws IOException {
+    return name(name).value(value);
+  }
+
+  public JsonWriter property(String name, long value) throws IOException {
+    return name(name).value(value);
+  }
+
+  private void separate() throws IOException {
+    if (comma) {
+      output.append(',');
+    }
+  }
+
+  private void string(String value) throws IOException {
+    output.append('"');
+
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+
+      switch (c) {
+        case '"' -> output.append("\\\"");
+        case '\\' -> output.append("\\\\");
+        case '\n' -> output.append("\\n");
+        case '\r' -> output.append("\\r");
+        case '\t' -> output.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            output.append(String.format("\\u%04x", (int) c));
+          } else {
+            output.append(c);
+          }
+        }
+      }
+    }
+
+    output.append('"');
+  }
+
+}
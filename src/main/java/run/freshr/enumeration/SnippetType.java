@@ -0,0 +1,83 @@
+package run.freshr.enumeration;
+
+import static java.util.Objects.isNull;
+
+import java.util.function.Function;
+import run.freshr.model.DocsModel;
+
+/**
+ * Snippet 유형.
+ *
+ * @author FreshR
+ * @implNote 문서에 include 할 Spring REST Docs snippet 정의<br>
+ * 선언 순서가 문서에 작성되는 순서
+ * @since 2026. 10. 18. 오전 5:19:14
+ */
+public enum SnippetType {
+
+  PATH_PARAMETERS("path-parameters", null, DocsModel::getExistsPathParameters),
+  REQUEST_PARTS("request-parts", null, DocsModel::getExistsRequestParts),
+  QUERY_PARAMETERS("query-parameters", null, DocsModel::getExistsQueryParameters),
+  FORM_PARAMETERS("form-parameters", null, DocsModel::getExistsFormParameters),
+  REQUEST_FIELDS("request-fields", null, DocsModel::getExistsRequestFields),
+  RESPONSE_FIELDS("response-fields", null, DocsModel::getExistsResponseFields),
+  HTTP_REQUEST("http-request", "Request HTTP Example", null),
+  HTTP_RESPONSE("http-response", "Response HTTP Example", null),
+  CURL_REQUEST("curl-request", "Curl Example", null);
+
+  /**
+   * 이름
+   *
+   * @apiNote Spring REST Docs snippet 파일 이름
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private final String name;
+  /**
+   * 제목
+   *
+   * @apiNote include 위에 작성할 제목<br>
+   * 제목이 없다면 null
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private final String title;
+  /**
+   * 작성 여부 조회 함수
+   *
+   * @apiNote Docs Annotation 의 exists* 값 조회<br>
+   * 항상 작성하는 snippet 은 null
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private final Function<DocsModel, Boolean> flag;
+
+  SnippetType(String name, String title, Function<DocsModel, Boolean> flag) {
+    this.name = name;
+    this.title = title;
+    this.flag = flag;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getTitle() {
+    return title;
+  }
+
+  public String getFilename() {
+    return name + ".adoc";
+  }
+
+  /**
+   * Docs Annotation 작성 여부 조회
+   *
+   * @param docsModel the docs model
+   * @return the boolean
+   * @apiNote Docs Annotation 의 exists* 값으로 snippet 작성 여부 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  public boolean isFlagged(DocsModel docsModel) {
+    return isNull(flag) || Boolean.TRUE.equals(flag.apply(docsModel));
+  }
+
+}
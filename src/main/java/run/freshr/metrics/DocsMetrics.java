@@ -0,0 +1,196 @@
+package run.freshr.metrics;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+import run.freshr.catalog.JsonWriter;
+
+/**
+ * Docs Metrics.
+ *
+ * @author FreshR
+ * @apiNote Round 하나의 단계별 시간과 처리 개수<br>
+ * 문서 생성과 저장은 여러 Thread 에서 기록하기 때문에 LongAdder 로 저장하고<br>
+ * rendering, writing 시간은 모든 Thread 의 처리 시간 합계
+ * @since 2026. 10. 18. 오전 5:36:25
+ */
+public class DocsMetrics {
+
+  /**
+   * 단계
+   *
+   * @author FreshR
+   * @apiNote 시간을 기록할 단계
+   * @since 2026. 10. 18. 오전 5:36:25
+   */
+  public enum Phase {
+
+    DISCOVERY("discovery"),
+    TEMPLATES("templates"),
+    EXTRACTION("extraction"),
+    RENDERING("rendering"),
+    WRITING("writing"),
+    TOTAL("total");
+
+    private final String key;
+
+    Phase(String key) {
+      this.key = key;
+    }
+
+  }
+
+  /**
+   * 처리 개수
+   *
+   * @author FreshR
+   * @apiNote 기록할 처리 개수
+   * @since 2026. 10. 18. 오전 5:36:25
+   */
+  public enum Counter {
+
+    GROUPS("groups"),
+    DOCS("docs"),
+    POPUPS("popups"),
+    POPUPS_SHARED("popupsShared"),
+    ENTITIES("entities"),
+    FILES_WRITTEN("filesWritten"),
+    FILES_UNCHANGED("filesUnchanged"),
+    FILES_SKIPPED("filesSkipped"),
+    BYTES_WRITTEN("bytesWritten");
+
+    private final String key;
+
+    Counter(String key) {
+      this.key = key;
+    }
+
+  }
+
+  /**
+   * Round 순서
+   *
+   * @apiNote 1 부터 시작
+   * @since 2026. 10. 18. 오전 5:36:25
+   */
+  private final int round;
+  /**
+   * 단계별 시간
+   *
+   * @apiNote nanoseconds
+   * @since 2026. 10. 18. 오전 5:36:25
+   */
+  private final LongAdder[] phaseNanos = newAdders(Phase.values().length);
+  /**
+   * 처리 개수
+   *
+   * @apiNote 처리 개수
+   * @since 2026. 10. 18. 오전 5:36:25
+   */
+  private final LongAdder[] counters = newAdders(Counter.values().length);
+
+  public DocsMetrics() {
+    this(0);
+  }
+
+  public DocsMetrics(int round) {
+    this.round = round;
+  }
+
+  /**
+   * 단계 시간 기록
+   *
+   * @param phase      단계
+   * @param startNanos System.nanoTime 으로 조회한 시작 시간
+   * @apiNote 시작 시간부터 현재까지의 시간을 더한다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:36:25
+   */
+  public void record(Phase phase, long startNanos) {
+    phaseNanos[phase.ordinal()].add(System.nanoTime() - startNanos);
+  }
+
+  public void increment(Counter counter) {
+    counters[counter.ordinal()].increment();
+  }
+
+  public void add(Counter counter, long value) {
+    counters[counter.ordinal()].add(value);
+  }
+
+  public long get(Counter counter) {
+    return counters[counter.ordinal()].sum();
+  }
+
+  public long getMillis(Phase phase) {
+    return NANOSECONDS.toMillis(phaseNanos[phase.ordinal()].sum());
+  }
+
+  /**
+   * JSON 작성
+   *
+   * @param jsonWriter the json writer
+   * @throws IOException the io exception
+   * @apiNote 단계별 시간은 milliseconds 로 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:36:25
+   */
+  public void write(JsonWriter jsonWriter) throws IOException {
+    jsonWriter.beginObject()
+        .property("round", round)
+        .name("phasesMs").beginObject();
+
+    for (Phase phase : Phase.values()) {
+      jsonWriter.property(phase.key, getMillis(phase));
+    }
+
+    jsonWriter.endObject().name("counters").beginObject();
+
+    for (Counter counter : Counter.values()) {
+      jsonWriter.property(counter.key, get(counter));
+    }
+
+    jsonWriter.endObject().endObject();
+  }
+
+  /**
+   * 요약 작성
+   *
+   * @return the string
+   * @apiNote Messager 로 출력할 한 줄 요약
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:36:25
+   */
+  public String summary() {
+    StringBuilder stringBuilder = new StringBuilder(256)
+        .append("RestDocsProcessor round ").append(round).append(": ")
+        .append(getMillis(Phase.TOTAL)).append(" ms (");
+
+    for (Phase phase : Phase.values()) {
+      if (phase != Phase.TOTAL) {
+        stringBuilder.append(phase.key).append(' ').append(getMillis(phase)).append(" ms")
+            .append(phase == Phase.WRITING ? "" : ", ");
+      }
+    }
+
+    stringBuilder.append(")");
+
+    for (Counter counter : Counter.values()) {
+      stringBuilder.append(", ").append(counter.key).append(' ').append(get(counter));
+    }
+
+    return stringBuilder.toString();
+  }
+
+  private static LongAdder[] newAdders(int length) {
+    LongAdder[] adders = new LongAdder[length];
+
+    for (int i = 0; i < length; i++) {
+      adders[i] = new LongAdder();
+    }
+
+    return adders;
+  }
+
+}
@@ -0,0 +1,66 @@
+package run.freshr.metrics;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import run.freshr.catalog.JsonWriter;
+import run.freshr.writer.AtomicFiles;
+
+/**
+ * Metrics Report.
+ *
+ * @author FreshR
+ * @apiNote 한 번의 컴파일에서 문서를 생성한 모든 Round 의 기록을 JSON 파일로 저장<br>
+ * Round 가 끝날 때마다 지금까지의 기록 전체를 다시 저장
+ * @since 2026. 10. 18. 오전 5:36:25
+ */
+public class MetricsReport {
+
+  /**
+   * Round 기록 목록
+   *
+   * @apiNote Round 기록 목록
+   * @since 2026. 10. 18. 오전 5:36:25
+   */
+  private final List<DocsMetrics> roundList = new ArrayList<>();
+
+  public DocsMetrics nextRound() {
+    DocsMetrics metrics = new DocsMetrics(roundList.size() + 1);
+
+    roundList.add(metrics);
+
+    return metrics;
+  }
+
+  /**
+   * 저장
+   *
+   * @param reportPath 저장할 파일 경로
+   * @throws IOException the io exception
+   * @apiNote 저장
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:36:25
+   */
+  public void write(Path reportPath) throws IOException {
+    StringBuilder stringBuilder = new StringBuilder(512 * roundList.size() + 64);
+    JsonWriter jsonWriter = new JsonWriter(stringBuilder);
+
+    jsonWriter.beginObject()
+        .property("processor", "RestDocsProcessor")
+        .name("rounds").beginArray();
+
+    for (DocsMetrics metrics : roundList) {
+      metrics.write(jsonWriter);
+    }
+
+    jsonWriter.endArray().endObject();
+
+    Files.createDirectories(reportPath.getParent());
+    AtomicFiles.write(reportPath, stringBuilder.append('\n').toString().getBytes(UTF_8));
+  }
+
+}
@@ -0,0 +1,58 @@
+package run.freshr.model;
+
+import lombok.Builder;
+import lombok.Data;
+import run.freshr.enumeration.ColumnType;
+
+/**
+ * Column 제약 조건 모델.
+ *
+ * @author FreshR
+ * @apiNote Entity 필드의 Column 정의를 ColumnType 기준으로<br>
+ * 가공하기 편리하도록 정의한 클래스<br>
+ * Processor 가 생성한 제약 조건 조회 클래스가 Test 에서 반환하는 값
+ * @since 2026. 10. 18. 오전 5:46:09
+ */
+@Data
+@Builder
+public class ConstraintModel {
+
+  /**
+   * 필드 경로
+   *
+   * @apiNote Entity 기준 필드 경로<br>
+   * Embedded 와 연관 Entity 의 식별자는 . 으로 구분
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private String path;
+  /**
+   * Column 유형
+   *
+   * @apiNote 변환할 수 없는 유형은 UNKNOWN
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private ColumnType type;
+  /**
+   * 크기
+   *
+   * @apiNote Column 정의에 length, precision 이 있다면 해당 값<br>
+   * 없다면 ColumnType 의 기본 크기
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private String size;
+  /**
+   * 포맷
+   *
+   * @apiNote ColumnType 의 기본 format pattern
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private String format;
+  /**
+   * 필수 여부
+   *
+   * @apiNote 식별자, 기본형, nullable = false 인 Column 이라면 true
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private boolean required;
+
+}
@@ -1,5 +1,6 @@
 package run.freshr.model;
 
+import java.util.List;
 import lombok.Builder;
 import lombok.Data;
 
@@ -35,5 +36,12 @@ public class DocsModel {
   private Boolean existsFormParameters;
   private Boolean existsRequestFields;
   private Boolean existsResponseFields;
+  /**
+   * 팝업 목록
+   *
+   * @apiNote Docs Annotation 의 popup 정보
+   * @since 2026. 10. 18. 오전 5:07:13
+   */
+  private List<DocsPopupModel> popupList;
 
 }
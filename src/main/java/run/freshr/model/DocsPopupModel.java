@@ -0,0 +1,33 @@
+package run.freshr.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * DocsPopup 모델.
+ *
+ * @author FreshR
+ * @apiNote DocsPopup Annotation 의 정보를<br>
+ * 가공하기 편리하도록 정의한 클래스
+ * @since 2026. 10. 18. 오전 5:07:13
+ */
+@Data
+@Builder
+public class DocsPopupModel {
+
+  /**
+   * 이름
+   *
+   * @apiNote 팝업 파일 이름
+   * @since 2026. 10. 18. 오전 5:07:13
+   */
+  private String name;
+  /**
+   * include 경로
+   *
+   * @apiNote Include 팝업 내용 파일 경로
+   * @since 2026. 10. 18. 오전 5:07:13
+   */
+  private String include;
+
+}
@@ -0,0 +1,46 @@
+package run.freshr.processor;
+
+/**
+ * Case Converter.
+ *
+ * @author FreshR
+ * @apiNote 클래스와 메서드 이름을 include 경로로 사용할 lower-hyphen 형식으로 변환<br>
+ * Guava CaseFormat 의 UPPER_CAMEL, LOWER_CAMEL 에서 LOWER_HYPHEN 변환과 같은 결과<br>
+ * ASCII 대문자 앞에 '-' 를 추가하고 소문자로 변환
+ * @since 2026. 10. 18. 오전 5:38:47
+ */
+public final class CaseConverter {
+
+  private CaseConverter() {
+  }
+
+  /**
+   * lower-hyphen 변환
+   *
+   * @param name UpperCamel 또는 lowerCamel 이름
+   * @return the string
+   * @apiNote SampleControllerTest 는 sample-controller-test, getSample 은 get-sample
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:38:47
+   */
+  public static String toLowerHyphen(String name) {
+    StringBuilder stringBuilder = new StringBuilder(name.length() + 8);
+
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+
+      if (c >= 'A' && c <= 'Z') {
+        if (i > 0) {
+          stringBuilder.append('-');
+        }
+
+        stringBuilder.append((char) (c + ('a' - 'A')));
+      } else {
+        stringBuilder.append(c);
+      }
+    }
+
+    return stringBuilder.toString();
+  }
+
+}
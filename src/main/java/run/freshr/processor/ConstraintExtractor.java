@@ -0,0 +1,505 @@
+package run.freshr.processor;
+
+import static java.util.Map.entry;
+import static java.util.Objects.isNull;
+import static javax.lang.model.element.Modifier.STATIC;
+import static javax.lang.model.element.Modifier.TRANSIENT;
+import static javax.lang.model.type.TypeKind.ARRAY;
+import static javax.lang.model.type.TypeKind.BYTE;
+import static javax.lang.model.type.TypeKind.DECLARED;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import run.freshr.enumeration.ColumnType;
+import run.freshr.model.ConstraintModel;
+
+/**
+ * Constraint Extractor.
+ *
+ * @author FreshR
+ * @apiNote Entity 클래스의 필드와 JPA Annotation 을 AnnotationMirror 로 읽어서<br>
+ * ColumnType 기준 ConstraintModel 목록으로 변환<br>
+ * JPA Annotation 도 이름으로 찾기 때문에 jakarta.persistence 와 javax.persistence 를 모두 지원하고<br>
+ * JPA 가 Processor 경로에 없어도 된다.
+ * @since 2026. 10. 18. 오전 5:46:09
+ */
+public class ConstraintExtractor {
+
+  /**
+   * JPA Annotation 패키지 목록
+   *
+   * @apiNote JPA Annotation 패키지 목록
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private static final List<String> PERSISTENCE_PACKAGES = List.of("jakarta.persistence.",
+      "javax.persistence.");
+  /**
+   * Java 유형별 ColumnType
+   *
+   * @apiNote Column 정의가 없을 때 필드 유형으로 ColumnType 조회
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private static final Map<String, ColumnType> JAVA_TYPES = Map.ofEntries(
+      entry("java.lang.String", ColumnType.VARCHAR),
+      entry("java.lang.Character", ColumnType.VARCHAR),
+      entry("java.lang.Long", ColumnType.BIGINT),
+      entry("java.lang.Integer", ColumnType.INT),
+      entry("java.lang.Short", ColumnType.SMALLINT),
+      entry("java.lang.Boolean", ColumnType.BIT),
+      entry("java.lang.Float", ColumnType.FLOAT),
+      entry("java.lang.Double", ColumnType.DOUBLE),
+      entry("java.math.BigDecimal", ColumnType.DECIMAL),
+      entry("java.math.BigInteger", ColumnType.DECIMAL),
+      entry("java.time.LocalDate", ColumnType.DATE),
+      entry("java.sql.Date", ColumnType.DATE),
+      entry("java.time.LocalTime", ColumnType.TIME),
+      entry("java.time.OffsetTime", ColumnType.TIME),
+      entry("java.sql.Time", ColumnType.TIME),
+      entry("java.time.LocalDateTime", ColumnType.DATETIME),
+      entry("java.time.OffsetDateTime", ColumnType.DATETIME),
+      entry("java.time.ZonedDateTime", ColumnType.DATETIME),
+      entry("java.time.Instant", ColumnType.DATETIME),
+      entry("java.sql.Timestamp", ColumnType.DATETIME),
+      entry("java.util.Date", ColumnType.DATETIME),
+      entry("java.util.Calendar", ColumnType.DATETIME));
+  /**
+   * columnDefinition 별칭
+   *
+   * @apiNote ColumnType 이름과 다른 Database 유형 이름
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private static final Map<String, ColumnType> DEFINITION_ALIASES = Map.of(
+      "INTEGER", ColumnType.INT,
+      "BOOLEAN", ColumnType.BIT,
+      "BOOL", ColumnType.BIT,
+      "CHAR", ColumnType.VARCHAR,
+      "TEXT", ColumnType.LONGTEXT,
+      "MEDIUMTEXT", ColumnType.LONGTEXT,
+      "NUMERIC", ColumnType.DECIMAL,
+      "TIMESTAMP", ColumnType.DATETIME);
+
+  /**
+   * Elements
+   *
+   * @apiNote Annotation 기본값 조회에 사용
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private final Elements elements;
+  /**
+   * Types
+   *
+   * @apiNote 필드 유형의 클래스 조회에 사용
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private final Types types;
+
+  public ConstraintExtractor(ProcessingEnvironment processingEnv) {
+    this.elements = processingEnv.getElementUtils();
+    this.types = processingEnv.getTypeUtils();
+  }
+
+  /**
+   * ConstraintModel 목록 변환
+   *
+   * @param entity Entity 클래스
+   * @return the list
+   * @apiNote 상위 클래스의 필드부터 선언 순서대로 변환<br>
+   * Embedded 필드는 하위 필드로 펼치고 연관 Entity 는 식별자만 작성<br>
+   * 컬렉션 연관관계와 Transient 필드는 작성하지 않는다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  public List<ConstraintModel> extract(TypeElement entity) {
+    List<ConstraintModel> constraintList = new ArrayList<>();
+
+    extractFields(entity, "", constraintList, new HashSet<>());
+
+    return constraintList;
+  }
+
+  /**
+   * 필드 변환
+   *
+   * @param type           필드를 조회할 클래스
+   * @param prefix         필드 경로 앞에 붙일 경로
+   * @param constraintList 변환한 목록
+   * @param visiting       변환 중인 클래스<br>
+   *                       서로를 Embedded 로 참조하는 클래스에서 반복하지 않도록 사용
+   * @apiNote 필드 변환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private void extractFields(TypeElement type, String prefix, List<ConstraintModel> constraintList,
+      Set<TypeElement> visiting) {
+    if (!visiting.add(type)) {
+      return;
+    }
+
+    // MappedSuperclass 에 정의한 공통 필드를 먼저 작성
+    TypeElement superType = asTypeElement(type.getSuperclass());
+
+    if (!isNull(superType) && (hasPersistence(superType, "MappedSuperclass")
+        || hasPersistence(superType, "Entity"))) {
+      extractFields(superType, prefix, constraintList, visiting);
+    }
+
+    for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      if (field.getModifiers().contains(STATIC) || field.getModifiers().contains(TRANSIENT)
+          || hasPersistence(field, "Transient")
+          || hasPersistence(field, "OneToMany")
+          || hasPersistence(field, "ManyToMany")
+          || hasPersistence(field, "ElementCollection")) {
+        continue;
+      }
+
+      String path = prefix + field.getSimpleName();
+      TypeElement fieldType = asTypeElement(field.asType());
+
+      // 연관 Entity 는 외래 키로 저장되는 식별자만 작성
+      AnnotationMirror relation = findPersistence(field, "ManyToOne");
+
+      if (isNull(relation)) {
+        relation = findPersistence(field, "OneToOne");
+      }
+
+      if (!isNull(relation)) {
+        Object mappedBy = readValue(relation, "mappedBy");
+        VariableElement idField = isNull(fieldType) ? null : findId(fieldType);
+
+        if ((isNull(mappedBy) || "".equals(mappedBy)) && !isNull(idField)) {
+          ConstraintModel idConstraint = constraint(path + "." + idField.getSimpleName(),
+              idField);
+
+          // 식별자는 항상 필수지만 외래 키는 연관관계 정의를 따른다.
+          idConstraint.setRequired(isRequiredRelation(field, relation));
+          constraintList.add(idConstraint);
+        }
+
+        continue;
+      }
+
+      if (!isNull(fieldType) && (hasPersistence(field, "Embedded")
+          || hasPersistence(field, "EmbeddedId")
+          || hasPersistence(fieldType, "Embeddable"))) {
+        extractFields(fieldType, path + ".", constraintList, visiting);
+
+        continue;
+      }
+
+      constraintList.add(constraint(path, field));
+    }
+
+    visiting.remove(type);
+  }
+
+  /**
+   * ConstraintModel 변환
+   *
+   * @param path  필드 경로
+   * @param field the field
+   * @return the constraint model
+   * @apiNote ConstraintModel 변환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private ConstraintModel constraint(String path, VariableElement field) {
+    AnnotationMirror column = findPersistence(field, "Column");
+    ColumnType columnType = resolveType(field, column);
+
+    return ConstraintModel.builder()
+        .path(path)
+        .type(columnType)
+        .size(resolveSize(field, column, columnType))
+        .format(columnType.getFormat())
+        .required(hasPersistence(field, "Id")
+            || field.asType().getKind().isPrimitive()
+            || (!isNull(column) && Boolean.FALSE.equals(readValue(column, "nullable"))))
+        .build();
+  }
+
+  /**
+   * ColumnType 조회
+   *
+   * @param field  the field
+   * @param column Column Annotation 정보
+   * @return the column type
+   * @apiNote columnDefinition, Lob, Enumerated, Temporal, 필드 유형 순서로 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private ColumnType resolveType(VariableElement field, AnnotationMirror column) {
+    if (!isNull(column)) {
+      ColumnType definitionType = parseDefinition((String) readValue(column, "columnDefinition"));
+
+      if (!isNull(definitionType)) {
+        return definitionType;
+      }
+    }
+
+    TypeMirror fieldType = field.asType();
+
+    if (hasPersistence(field, "Lob")) {
+      return isByteArray(fieldType) ? ColumnType.BLOB : ColumnType.LONGTEXT;
+    }
+
+    if (isByteArray(fieldType)) {
+      return ColumnType.BLOB;
+    }
+
+    switch (fieldType.getKind()) {
+      case LONG:
+        return ColumnType.BIGINT;
+      case INT:
+        return ColumnType.INT;
+      case SHORT:
+        return ColumnType.SMALLINT;
+      case BOOLEAN:
+        return ColumnType.BIT;
+      case FLOAT:
+        return ColumnType.FLOAT;
+      case DOUBLE:
+        return ColumnType.DOUBLE;
+      case CHAR:
+        return ColumnType.VARCHAR;
+      case DECLARED:
+        break;
+      default:
+        return ColumnType.UNKNOWN;
+    }
+
+    TypeElement typeElement = asTypeElement(fieldType);
+
+    // Enumerated 가 없다면 JPA 기본값인 ORDINAL
+    if (typeElement.getKind() == ElementKind.ENUM) {
+      AnnotationMirror enumerated = findPersistence(field, "Enumerated");
+
+      return !isNull(enumerated) && "STRING".equals(readValue(enumerated, "value"))
+          ? ColumnType.VARCHAR : ColumnType.INT;
+    }
+
+    AnnotationMirror temporal = findPersistence(field, "Temporal");
+
+    if (!isNull(temporal)) {
+      Object temporalType = readValue(temporal, "value");
+
+      if ("DATE".equals(temporalType)) {
+        return ColumnType.DATE;
+      }
+
+      if ("TIME".equals(temporalType)) {
+        return ColumnType.TIME;
+      }
+
+      return ColumnType.DATETIME;
+    }
+
+    return JAVA_TYPES.getOrDefault(typeElement.getQualifiedName().toString(),
+        ColumnType.UNKNOWN);
+  }
+
+  /**
+   * 크기 조회
+   *
+   * @param field      the field
+   * @param column     Column Annotation 정보
+   * @param columnType the column type
+   * @return the string
+   * @apiNote 문자열은 length, 숫자는 precision 과 scale 을 사용하고<br>
+   * 없다면 ColumnType 의 기본 크기
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private String resolveSize(VariableElement field, AnnotationMirror column,
+      ColumnType columnType) {
+    if (isNull(column)) {
+      return columnType.getSize();
+    }
+
+    if (columnType == ColumnType.VARCHAR && isString(field.asType())) {
+      return readValue(column, "length") + " characters";
+    }
+
+    if (columnType == ColumnType.DECIMAL && readValue(column, "precision") instanceof Integer
+        precision && precision > 0) {
+      return "precision " + precision + ", scale " + readValue(column, "scale");
+    }
+
+    return columnType.getSize();
+  }
+
+  /**
+   * columnDefinition 변환
+   *
+   * @param definition the definition
+   * @return the column type
+   * @apiNote varchar(50), DATETIME(6) 처럼 앞부분의 유형 이름만 사용<br>
+   * 알 수 없는 유형이라면 null 을 반환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private ColumnType parseDefinition(String definition) {
+    if (isNull(definition) || definition.isBlank()) {
+      return null;
+    }
+
+    String trimmed = definition.trim();
+    int end = 0;
+
+    while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+      end++;
+    }
+
+    String name = trimmed.substring(0, end).toUpperCase();
+
+    for (ColumnType columnType : ColumnType.values()) {
+      if (columnType != ColumnType.UNKNOWN && columnType.name().equals(name)) {
+        return columnType;
+      }
+    }
+
+    return DEFINITION_ALIASES.get(name);
+  }
+
+  /**
+   * 연관 Entity 필수 여부 조회
+   *
+   * @param field    the field
+   * @param relation ManyToOne 또는 OneToOne Annotation 정보
+   * @return the boolean
+   * @apiNote optional = false 이거나 JoinColumn 이 nullable = false 라면 true
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private boolean isRequiredRelation(VariableElement field, AnnotationMirror relation) {
+    if (Boolean.FALSE.equals(readValue(relation, "optional"))) {
+      return true;
+    }
+
+    AnnotationMirror joinColumn = findPersistence(field, "JoinColumn");
+
+    return !isNull(joinColumn) && Boolean.FALSE.equals(readValue(joinColumn, "nullable"));
+  }
+
+  /**
+   * 식별자 필드 조회
+   *
+   * @param type the type
+   * @return the variable element
+   * @apiNote 상위 클래스까지 조회하고 식별자가 없다면 null 을 반환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private VariableElement findId(TypeElement type) {
+    for (TypeElement current = type; !isNull(current);
+        current = asTypeElement(current.getSuperclass())) {
+      for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+        if (hasPersistence(field, "Id")) {
+          return field;
+        }
+      }
+    }
+
+    return null;
+  }
+
+  private TypeElement asTypeElement(TypeMirror typeMirror) {
+    if (typeMirror.getKind() != DECLARED) {
+      return null;
+    }
+
+    return (TypeElement) types.asElement(typeMirror);
+  }
+
+  private boolean isString(TypeMirror typeMirror) {
+    TypeElement typeElement = asTypeElement(typeMirror);
+
+    return !isNull(typeElement)
+        && typeElement.getQualifiedName().contentEquals("java.lang.String");
+  }
+
+  private boolean isByteArray(TypeMirror typeMirror) {
+    if (typeMirror.getKind() != ARRAY) {
+      return false;
+    }
+
+    TypeMirror componentType = ((ArrayType) typeMirror).getComponentType();
+    TypeElement componentElement = asTypeElement(componentType);
+
+    return componentType.getKind() == BYTE || (!isNull(componentElement)
+        && componentElement.getQualifiedName().contentEquals("java.lang.Byte"));
+  }
+
+  private boolean hasPersistence(Element element, String simpleName) {
+    return !isNull(findPersistence(element, simpleName));
+  }
+
+  /**
+   * JPA AnnotationMirror 조회
+   *
+   * @param element    the element
+   * @param simpleName Annotation 이름
+   * @return the annotation mirror
+   * @apiNote jakarta.persistence 와 javax.persistence 에서 조회<br>
+   * 해당 Annotation 이 없다면 null 을 반환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private AnnotationMirror findPersistence(Element element, String simpleName) {
+    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName()
+          .toString();
+
+      for (String persistencePackage : PERSISTENCE_PACKAGES) {
+        if (name.length() == persistencePackage.length() + simpleName.length()
+            && name.startsWith(persistencePackage) && name.endsWith(simpleName)) {
+          return mirror;
+        }
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Annotation 값 조회
+   *
+   * @param mirror the mirror
+   * @param name   속성 이름
+   * @return the object
+   * @apiNote 기본값을 포함해서 조회하고 Enum 값은 상수 이름으로 반환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private Object readValue(AnnotationMirror mirror, String name) {
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+        : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+      if (!entry.getKey().getSimpleName().contentEquals(name)) {
+        continue;
+      }
+
+      Object value = entry.getValue().getValue();
+
+      return value instanceof VariableElement constant ? constant.getSimpleName().toString()
+          : value;
+    }
+
+    return null;
+  }
+
+}
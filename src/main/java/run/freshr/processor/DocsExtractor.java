@@ -0,0 +1,290 @@
+package run.freshr.processor;
+
+import static java.util.Objects.isNull;
+import static javax.lang.model.element.ElementKind.METHOD;
+import static javax.lang.model.type.TypeKind.DECLARED;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import run.freshr.annotation.Docs;
+import run.freshr.annotation.DocsGroup;
+import run.freshr.model.DocsGroupModel;
+import run.freshr.model.DocsModel;
+import run.freshr.model.DocsPopupModel;
+
+/**
+ * Docs Extractor.
+ *
+ * @author FreshR
+ * @apiNote DocsGroup 과 Docs Annotation 정보를 AnnotationMirror 로 읽어서<br>
+ * DocsGroupModel 과 DocsModel 로 변환<br>
+ * Annotation Proxy 를 만들지 않고 DisplayName 도 이름으로 찾기 때문에<br>
+ * JUnit 이 Processor 경로에 없어도 된다.
+ * @since 2026. 10. 18. 오전 5:07:13
+ */
+public class DocsExtractor {
+
+  /**
+   * DisplayName Annotation 이름
+   *
+   * @apiNote JUnit 의 DisplayName Annotation 이름
+   * @since 2026. 10. 18. 오전 5:07:13
+   */
+  public static final String DISPLAY_NAME = "org.junit.jupiter.api.DisplayName";
+
+  /**
+   * Elements
+   *
+   * @apiNote Annotation 기본값 조회에 사용
+   * @since 2026. 10. 18. 오전 5:07:13
+   */
+  private final Elements elements;
+  /**
+   * DocsGroup 유형
+   *
+   * @apiNote DocsGroup 유형
+   * @since 2026. 10. 18. 오전 5:07:13
+   */
+  private final TypeElement docsGroupType;
+  /**
+   * Docs 유형
+   *
+   * @apiNote Docs 유형
+   * @since 2026. 10. 18. 오전 5:07:13
+   */
+  private final TypeElement docsType;
+  /**
+   * DisplayName 유형
+   *
+   * @apiNote JUnit 이 classpath 에 없다면 null
+   * @since 2026. 10. 18. 오전 5:07:13
+   */
+  private final TypeElement displayNameType;
+
+  /**
+   * Instantiates a new Docs extractor.
+   *
+   * @param processingEnv the processing env
+   * @apiNote Annotation 유형은 Round 마다 한 번만 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:07:13
+   */
+  public DocsExtractor(ProcessingEnvironment processingEnv) {
+    this.elements = processingEnv.getElementUtils();
+    this.docsGroupType = elements.getTypeElement(DocsGroup.class.getCanonicalName());
+    this.docsType = elements.getTypeElement(Docs.class.getCanonicalName());
+    this.displayNameType = elements.getTypeElement(DISPLAY_NAME);
+  }
+
+  public TypeElement getDocsGroupType() {
+    return docsGroupType;
+  }
+
+  /**
+   * DocsGroupModel 변환
+   *
+   * @param element DocsGroup Annotation 을 적용한 클래스
+   * @return the docs group model
+   * @apiNote DocsGroup Annotation 이 없다면 null 을 반환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:07:13
+   */
+  public DocsGroupModel extract(Element element) {
+    AnnotationMirror groupMirror = findMirror(element, docsGroupType);
+
+    if (isNull(groupMirror)) {
+      return null;
+    }
+
+    String className = CaseConverter.toLowerHyphen(element.getSimpleName().toString());
+    String filename = (String) readValues(groupMirror).get("name").getValue();
+    String classDescription = readDisplayName(element, filename);
+    List<DocsModel> docsList = new ArrayList<>();
+
+    for (Element method : element.getEnclosedElements()) {
+      if (method.getKind() != METHOD) {
+        continue;
+      }
+
+      AnnotationMirror docsMirror = findMirror(method, docsType);
+
+      if (isNull(docsMirror)) {
+        continue;
+      }
+
+      docsList.add(extractDocs(method, docsMirror));
+    }
+
+    return DocsGroupModel.builder()
+        .name(filename)
+        .description(classDescription)
+        .path(className)
+        .docsList(docsList)
+        .build();
+  }
+
+  /**
+   * Docs 메서드 이름 목록 조회
+   *
+   * @param element DocsGroup Annotation 을 적용한 클래스
+   * @return the list
+   * @apiNote extract 로 변환한 Docs 목록과 같은 순서<br>
+   * Docs 식별자 조회 클래스가 Test 메서드 이름으로 식별자를 찾을 때 사용
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:03:59
+   */
+  public List<String> extractMethodNames(Element element) {
+    List<String> methodNameList = new ArrayList<>();
+
+    for (Element method : element.getEnclosedElements()) {
+      if (method.getKind() == METHOD && !isNull(findMirror(method, docsType))) {
+        methodNameList.add(method.getSimpleName().toString());
+      }
+    }
+
+    return methodNameList;
+  }
+
+  /**
+   * Entity 클래스 목록 조회
+   *
+   * @param element DocsGroup Annotation 을 적용한 클래스
+   * @return the list
+   * @apiNote DocsGroup Annotation 의 entity 조회<br>
+   * Class 값은 Compile 중에 Class 로 읽을 수 없기 때문에 TypeElement 로 반환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  public List<TypeElement> extractEntities(Element element) {
+    AnnotationMirror groupMirror = findMirror(element, docsGroupType);
+    List<TypeElement> entityList = new ArrayList<>();
+
+    if (isNull(groupMirror)) {
+      return entityList;
+    }
+
+    for (Object entity : (List<?>) readValues(groupMirror).get("entity").getValue()) {
+      TypeMirror entityType = (TypeMirror) ((AnnotationValue) entity).getValue();
+
+      if (entityType.getKind() == DECLARED) {
+        entityList.add((TypeElement) ((DeclaredType) entityType).asElement());
+      }
+    }
+
+    return entityList;
+  }
+
+  /**
+   * DocsModel 변환
+   *
+   * @param method     Docs Annotation 을 적용한 메서드
+   * @param docsMirror Docs Annotation 정보
+   * @return the docs model
+   * @apiNote DocsModel 변환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:07:13
+   */
+  private DocsModel extractDocs(Element method, AnnotationMirror docsMirror) {
+    String methodName = CaseConverter.toLowerHyphen(method.getSimpleName().toString());
+    Map<String, AnnotationValue> values = readValues(docsMirror);
+    List<DocsPopupModel> popupList = new ArrayList<>();
+
+    for (Object popup : (List<?>) values.get("popup").getValue()) {
+      Map<String, AnnotationValue> popupValues = readValues(
+          (AnnotationMirror) ((AnnotationValue) popup).getValue());
+
+      popupList.add(DocsPopupModel.builder()
+          .name((String) popupValues.get("name").getValue())
+          .include((String) popupValues.get("include").getValue())
+          .build());
+    }
+
+    return DocsModel.builder()
+        .path(methodName)
+        .description(readDisplayName(method, methodName))
+        .existsPathParameters((Boolean) values.get("existsPathParameters").getValue())
+        .existsRequestParts((Boolean) values.get("existsRequestParts").getValue())
+        .existsQueryParameters((Boolean) values.get("existsQueryParameters").getValue())
+        .existsFormParameters((Boolean) values.get("existsFormParameters").getValue())
+        .existsRequestFields((Boolean) values.get("existsRequestFields").getValue())
+        .existsResponseFields((Boolean) values.get("existsResponseFields").getValue())
+        .popupList(popupList)
+        .build();
+  }
+
+  /**
+   * DisplayName 조회
+   *
+   * @param element      the element
+   * @param defaultValue DisplayName Annotation 이 없을 때 사용할 값
+   * @return the string
+   * @apiNote DisplayName Annotation 의 value 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:07:13
+   */
+  private String readDisplayName(Element element, String defaultValue) {
+    AnnotationMirror mirror = findMirror(element, displayNameType);
+
+    if (isNull(mirror)) {
+      return defaultValue;
+    }
+
+    return (String) readValues(mirror).get("value").getValue();
+  }
+
+  /**
+   * AnnotationMirror 조회
+   *
+   * @param element the element
+   * @param type    Annotation 유형
+   * @return the annotation mirror
+   * @apiNote 해당 유형의 Annotation 이 없다면 null 을 반환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:07:13
+   */
+  private AnnotationMirror findMirror(Element element, TypeElement type) {
+    if (isNull(type)) {
+      return null;
+    }
+
+    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      if (type.equals(mirror.getAnnotationType().asElement())) {
+        return mirror;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Annotation 값 조회
+   *
+   * @param mirror the mirror
+   * @return the map
+   * @apiNote 기본값을 포함한 Annotation 값을 속성 이름으로 조회할 수 있도록 변환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:07:13
+   */
+  private Map<String, AnnotationValue> readValues(AnnotationMirror mirror) {
+    Map<String, AnnotationValue> values = new HashMap<>();
+
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+        : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+      values.put(entry.getKey().getSimpleName().toString(), entry.getValue());
+    }
+
+    return values;
+  }
+
+}
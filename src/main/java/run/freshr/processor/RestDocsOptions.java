@@ -0,0 +1,403 @@
+package run.freshr.processor;
+
+import static java.util.Objects.isNull;
+import static java.util.Optional.ofNullable;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.tools.FileObject;
+import run.freshr.renderer.ConstraintsRenderer;
+import run.freshr.renderer.IndexRenderer;
+
+/**
+ * RestDocsProcessor 옵션.
+ *
+ * @author FreshR
+ * @apiNote -A 로 전달한 Processor 옵션 정의<br>
+ * 경로 옵션은 절대 경로로 설정하는 것을 권장하고<br>
+ * 설정하지 않은 경로가 있을 때만 CLASS_OUTPUT 에 임시 파일을 생성해서 프로젝트 경로를 찾는다.
+ * @since 2026. 10. 18. 오전 5:15:34
+ */
+public class RestDocsOptions {
+
+  /**
+   * Filer 사용 여부 옵션
+   *
+   * @apiNote true 로 설정하면 문서 Directory 대신 Filer 를 통해서 CLASS_OUTPUT/asciidoc 에 문서를 생성<br>
+   * Gradle 이 생성 파일과 원본 클래스를 추적하기 때문에 증분 컴파일에서 변경된 클래스의 문서만 다시 생성<br>
+   * 모든 생성 파일이 compileTestJava 의 출력이 되기 때문에 Build Cache 로 문서를 복원할 수 있다.<br>
+   * 설정하지 않으면 Gradle 이 추적하지 않는 문서 Directory 에 저장하기 때문에 증분 처리하지 않는다.
+   * @since 2026. 10. 18. 오전 4:59:26
+   */
+  public static final String FILER = "restdocs.filer";
+  /**
+   * 메뉴 유형 옵션
+   *
+   * @apiNote hierarchical 로 설정하면 이름의 prefix 가 같은 DocsGroup 을 묶어서 메뉴를 생성<br>
+   * 설정하지 않으면 DocsGroup 을 순서대로 나열
+   * @since 2026. 10. 18. 오전 5:07:56
+   */
+  public static final String NAVIGATION = "restdocs.navigation";
+  /**
+   * 계층 메뉴
+   *
+   * @apiNote 메뉴 유형 옵션 값
+   * @since 2026. 10. 18. 오전 5:07:56
+   */
+  public static final String HIERARCHICAL_NAVIGATION = "hierarchical";
+  /**
+   * 병렬 처리 수준 옵션
+   *
+   * @apiNote 문서 생성에 사용할 Thread 개수<br>
+   * 1 로 설정하면 javac Thread 에서 순차 처리하고 설정하지 않으면 CPU 개수만큼 사용
+   * @since 2026. 10. 18. 오전 5:14:11
+   */
+  public static final String PARALLELISM = "restdocs.parallelism";
+  /**
+   * 문서 Directory 옵션
+   *
+   * @apiNote AsciiDoc 문서를 생성할 Directory<br>
+   * 설정하지 않으면 {프로젝트}/src/docs/asciidoc
+   * @since 2026. 10. 18. 오전 5:15:34
+   */
+  public static final String OUTPUT_DIR = "restdocs.outputDir";
+  /**
+   * 템플릿 Directory 옵션
+   *
+   * @apiNote index.adoc, default-top.adoc 등 템플릿을 읽어올 Directory<br>
+   * 설정하지 않으면 {프로젝트}/src/main/resources/asciidocs
+   * @since 2026. 10. 18. 오전 5:15:34
+   */
+  public static final String TEMPLATE_DIR = "restdocs.templateDir";
+  /**
+   * Snippet Directory 옵션
+   *
+   * @apiNote Spring REST Docs 가 snippet 을 생성하는 Directory<br>
+   * 설정하면 문서에 문서 Directory 기준 상대 경로로 :snippets: 속성을 작성<br>
+   * 설정하지 않으면 {프로젝트}/build/generated-snippets
+   * @since 2026. 10. 18. 오전 5:15:34
+   */
+  public static final String SNIPPETS_DIR = "restdocs.snippetsDir";
+  /**
+   * 문서 분할 기준 옵션
+   *
+   * @apiNote Docs 개수가 이 값보다 많은 DocsGroup 은 개요 문서와 분할 문서로 생성<br>
+   * 설정하지 않으면 분할하지 않음
+   * @since 2026. 10. 18. 오전 5:21:10
+   */
+  public static final String SHARD_THRESHOLD = "restdocs.shardThreshold";
+  /**
+   * 분할 문서 크기 옵션
+   *
+   * @apiNote 분할 문서 하나에 작성할 Docs 개수<br>
+   * 설정하지 않으면 Docs 하나마다 문서 하나를 생성
+   * @since 2026. 10. 18. 오전 5:21:10
+   */
+  public static final String SHARD_SIZE = "restdocs.shardSize";
+  /**
+   * 처리 기록 파일 옵션
+   *
+   * @apiNote Round 별 단계 시간과 처리 개수를 저장할 JSON 파일<br>
+   * 설정하지 않으면 {프로젝트}/build/restdocs/processor-metrics.json<br>
+   * Filer 를 사용할 때는 설정한 경우에만 저장
+   * @since 2026. 10. 18. 오전 5:36:25
+   */
+  public static final String METRICS_FILE = "restdocs.metricsFile";
+  /**
+   * 검색 사용 여부 옵션
+   *
+   * @apiNote true 로 설정하면 검색 색인과 검색 스크립트를 생성하고 메뉴에 검색 입력을 작성<br>
+   * 설정하지 않으면 생성하지 않음<br>
+   * Asciidoctor 작업은 .adoc 이 아닌 파일을 출력 Directory 에 복사하지 않기 때문에<br>
+   * resources 설정으로 search-index.js 와 search.js 를 함께 복사해야 한다.
+   * @since 2026. 10. 18. 오전 5:40:19
+   */
+  public static final String SEARCH = "restdocs.search";
+  /**
+   * 처리 기록 요약 출력 여부 옵션
+   *
+   * @apiNote true 로 설정하면 Round 마다 한 줄 요약을 Messager 로 출력
+   * @since 2026. 10. 18. 오전 5:36:25
+   */
+  public static final String METRICS_SUMMARY = "restdocs.metricsSummary";
+  /**
+   * 제약 조건 조회 클래스 이름 옵션
+   *
+   * @apiNote DocsGroup 의 entity 로 생성할 제약 조건 조회 클래스의 전체 이름<br>
+   * 설정하지 않으면 run.freshr.generated.DocsConstraints
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  public static final String CONSTRAINTS_CLASS = "restdocs.constraintsClass";
+  /**
+   * Docs 식별자 조회 클래스 이름 옵션
+   *
+   * @apiNote Docs 마다 식별자 상수와 snippet 목록을 작성할 클래스의 전체 이름<br>
+   * 설정하지 않으면 run.freshr.generated.DocsIndex
+   * @since 2026. 10. 18. 오전 6:03:59
+   */
+  public static final String INDEX_CLASS = "restdocs.indexClass";
+
+  /**
+   * 모듈 이름 옵션
+   *
+   * @apiNote 설정하면 여러 모듈이 같은 문서 Directory 를 사용하는 partial 모드로 동작<br>
+   * DocsGroup 문서와 Build 출력의 Catalog 만 생성하고<br>
+   * 메뉴, index, 검색 색인, 팝업 문서는 CatalogAggregator 가 모든 모듈의 Catalog 로 한 번에 생성
+   * @since 2026. 10. 18. 오전 5:50:27
+   */
+  public static final String MODULE = "restdocs.module";
+  /**
+   * DocsAssembler 사용 여부 옵션
+   *
+   * @apiNote true 로 설정하면 DocsGroup 문서와 메뉴, index, 팝업 문서는 생성하지 않고<br>
+   * Catalog 와 제약 조건 문서만 생성<br>
+   * Test 가 끝난 뒤 DocsAssembler 가 Catalog 와 실제로 생성된 snippet 으로 문서를 생성하기 때문에<br>
+   * Compile 과 DocsAssembler 가 서로 다른 내용으로 같은 문서를 덮어쓰지 않는다.<br>
+   * DocsAssembler 작업을 등록하지 않은 프로젝트의 문서가 사라지지 않도록<br>
+   * 설정하지 않으면 이전과 같이 Compile 에서 exists* 값으로 문서를 생성
+   * @since 2026. 10. 18. 오전 6:17:32
+   */
+  public static final String ASSEMBLER = "restdocs.assembler";
+  /**
+   * 소유 모듈 옵션
+   *
+   * @apiNote 여러 프로젝트가 같은 문서 Directory 와 Manifest 를 공유할 때 Manifest 에 기록할 이름<br>
+   * partial 모드에서는 모듈 이름을 사용하고 둘 다 설정하지 않으면 소유 모듈을 기록하지 않는다.
+   * @since 2026. 10. 18. 오전 6:16:40
+   */
+  public static final String OWNER = "restdocs.owner";
+
+  /**
+   * 지원 옵션 목록
+   *
+   * @apiNote 지원 옵션 목록
+   * @since 2026. 10. 18. 오전 5:15:34
+   */
+  public static final Set<String> NAMES = Set.of(FILER, NAVIGATION, PARALLELISM, OUTPUT_DIR,
+      TEMPLATE_DIR, SNIPPETS_DIR, SHARD_THRESHOLD, SHARD_SIZE, METRICS_FILE, METRICS_SUMMARY,
+      SEARCH, CONSTRAINTS_CLASS, INDEX_CLASS, MODULE, ASSEMBLER, OWNER);
+
+  /**
+   * Processing Environment
+   *
+   * @apiNote 옵션 조회와 프로젝트 경로 탐색에 사용
+   * @since 2026. 10. 18. 오전 5:15:34
+   */
+  private final ProcessingEnvironment processingEnv;
+  /**
+   * 옵션 목록
+   *
+   * @apiNote -A 로 전달한 옵션 목록
+   * @since 2026. 10. 18. 오전 5:15:34
+   */
+  private final Map<String, String> options;
+  /**
+   * 프로젝트 경로
+   *
+   * @apiNote 처음 필요할 때 한 번만 탐색
+   * @since 2026. 10. 18. 오전 5:15:34
+   */
+  private Path rootPath;
+
+  public RestDocsOptions(ProcessingEnvironment processingEnv) {
+    this.processingEnv = processingEnv;
+    this.options = processingEnv.getOptions();
+  }
+
+  public boolean useFiler() {
+    return Boolean.parseBoolean(options.get(FILER));
+  }
+
+  public boolean isHierarchicalNavigation() {
+    return HIERARCHICAL_NAVIGATION.equals(options.get(NAVIGATION));
+  }
+
+  public int getParallelism() {
+    return ofNullable(options.get(PARALLELISM))
+        .map(Integer::parseInt)
+        .orElse(Runtime.getRuntime().availableProcessors());
+  }
+
+  public int getShardThreshold() {
+    return ofNullable(options.get(SHARD_THRESHOLD)).map(Integer::parseInt).orElse(0);
+  }
+
+  public int getShardSize() {
+    return ofNullable(options.get(SHARD_SIZE)).map(Integer::parseInt).orElse(1);
+  }
+
+  /**
+   * 문서 Directory 조회
+   *
+   * @return the path
+   * @throws IOException the io exception
+   * @apiNote 문서 Directory 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:15:34
+   */
+  public Path getOutputDir() throws IOException {
+    return resolve(OUTPUT_DIR, Path.of("src", "docs", "asciidoc"));
+  }
+
+  /**
+   * 템플릿 Directory 조회
+   *
+   * @return the path
+   * @throws IOException the io exception
+   * @apiNote 템플릿 Directory 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:15:34
+   */
+  public Path getTemplateDir() throws IOException {
+    return resolve(TEMPLATE_DIR, Path.of("src", "main", "resources", "asciidocs"));
+  }
+
+  /**
+   * Snippet Directory 조회
+   *
+   * @return the path
+   * @throws IOException the io exception
+   * @apiNote Snippet Directory 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:15:34
+   */
+  public Path getSnippetsDir() throws IOException {
+    return resolve(SNIPPETS_DIR, Path.of("build", "generated-snippets"));
+  }
+
+  /**
+   * 처리 기록 파일 조회
+   *
+   * @return the path
+   * @throws IOException the io exception
+   * @apiNote 처리 기록 파일 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:36:25
+   */
+  public Path getMetricsFile() throws IOException {
+    return resolve(METRICS_FILE, Path.of("build", "restdocs", "processor-metrics.json"));
+  }
+
+  public boolean useSearch() {
+    return Boolean.parseBoolean(options.get(SEARCH));
+  }
+
+  public boolean isMetricsSummary() {
+    return Boolean.parseBoolean(options.get(METRICS_SUMMARY));
+  }
+
+  public String getConstraintsClass() {
+    return ofNullable(options.get(CONSTRAINTS_CLASS))
+        .filter(value -> !value.isBlank())
+        .orElse(ConstraintsRenderer.DEFAULT_CLASS_NAME);
+  }
+
+  public String getIndexClass() {
+    return ofNullable(options.get(INDEX_CLASS))
+        .filter(value -> !value.isBlank())
+        .orElse(IndexRenderer.DEFAULT_CLASS_NAME);
+  }
+
+  public boolean useAssembler() {
+    return Boolean.parseBoolean(options.get(ASSEMBLER));
+  }
+
+  public boolean isPartial() {
+    return !isNull(getModule());
+  }
+
+  public String getModule() {
+    return ofNullable(options.get(MODULE)).filter(value -> !value.isBlank()).orElse(null);
+  }
+
+  /**
+   * 소유 모듈 조회
+   *
+   * @return the string
+   * @apiNote Manifest 에 문서와 함께 기록할 모듈<br>
+   * partial 모드라면 모듈 이름, 아니라면 소유 모듈 옵션<br>
+   * 프로젝트 경로를 탐색하지 않도록 옵션으로만 정하고 알 수 없다면 null
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:16:40
+   */
+  public String getOwner() {
+    if (isPartial()) {
+      return getModule();
+    }
+
+    return ofNullable(options.get(OWNER)).filter(value -> !value.isBlank()).orElse(null);
+  }
+
+  public boolean hasSnippetsDir() {
+    return options.containsKey(SNIPPETS_DIR);
+  }
+
+  public boolean hasMetricsFile() {
+    return options.containsKey(METRICS_FILE);
+  }
+
+  /**
+   * 경로 옵션 조회
+   *
+   * @param name        옵션 이름
+   * @param defaultPath 프로젝트 경로 기준 기본 경로
+   * @return the path
+   * @throws IOException the io exception
+   * @apiNote 옵션을 설정하지 않았다면 프로젝트 경로를 탐색해서 기본 경로 반환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:15:34
+   */
+  private Path resolve(String name, Path defaultPath) throws IOException {
+    String value = options.get(name);
+
+    if (!isNull(value) && !value.isBlank()) {
+      return Path.of(value).toAbsolutePath().normalize();
+    }
+
+    return getRootPath().resolve(defaultPath);
+  }
+
+  /**
+   * 프로젝트 경로 탐색
+   *
+   * @return the path
+   * @throws IOException the io exception
+   * @apiNote 경로 옵션이 없을 때 사용하는 이전 방식<br>
+   * CLASS_OUTPUT 에 임시 파일을 생성해서 build/classes/java/test 기준으로 프로젝트 경로를 찾는다.<br>
+   * Gradle 기본 구조에서만 동작하기 때문에 경로 옵션 사용을 권장
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:15:34
+   */
+  private Path getRootPath() throws IOException {
+    if (isNull(rootPath)) {
+      FileObject classOutputTemp = processingEnv.getFiler()
+          .createResource(CLASS_OUTPUT, "", "temp", (Element[]) null);
+      Path classOutputPath = Path.of(classOutputTemp.toUri()).getParent();
+
+      classOutputTemp.delete();
+
+      // {프로젝트}/build/classes/java/test 에서 4 단계 위의 Directory
+      Path path = classOutputPath;
+
+      for (int i = 0; i < 4 && !isNull(path); i++) {
+        path = path.getParent();
+      }
+
+      if (isNull(path)) {
+        throw new IllegalStateException("Cannot find the project directory from CLASS_OUTPUT '"
+            + classOutputPath + "'. Set " + OUTPUT_DIR + ", " + TEMPLATE_DIR + ", "
+            + SNIPPETS_DIR + " and " + METRICS_FILE + " to absolute paths");
+      }
+
+      rootPath = path;
+    }
+
+    return rootPath;
+  }
+
+}
@@ -1,44 +1,62 @@
 package run.freshr.processor;
 
-import static com.google.common.base.CaseFormat.LOWER_CAMEL;
-import static com.google.common.base.CaseFormat.LOWER_HYPHEN;
-import static com.google.common.base.CaseFormat.UPPER_CAMEL;
-import static java.lang.System.lineSeparator;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.isNull;
-import static java.util.Optional.ofNullable;
 import static javax.lang.model.element.ElementKind.CLASS;
 import static javax.tools.Diagnostic.Kind.ERROR;
 import static javax.tools.Diagnostic.Kind.NOTE;
-import static org.springframework.util.StringUtils.hasLength;
+import static javax.tools.Diagnostic.Kind.WARNING;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
 
 import com.google.auto.service.AutoService;
+import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.annotation.processing.AbstractProcessor;
-import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
 import javax.tools.FileObject;
-import javax.tools.StandardLocation;
-import org.junit.jupiter.api.DisplayName;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.util.FileCopyUtils;
-import run.freshr.annotation.Docs;
+import javax.tools.JavaFileObject;
 import run.freshr.annotation.DocsGroup;
-import run.freshr.annotation.DocsPopup;
+import run.freshr.catalog.DocsCatalog;
+import run.freshr.metrics.DocsMetrics;
+import run.freshr.metrics.DocsMetrics.Counter;
+import run.freshr.metrics.DocsMetrics.Phase;
+import run.freshr.metrics.MetricsReport;
+import run.freshr.model.ConstraintModel;
 import run.freshr.model.DocsGroupModel;
-import run.freshr.model.DocsGroupModel.DocsGroupModelBuilder;
 import run.freshr.model.DocsModel;
+import run.freshr.model.DocsPopupModel;
+import run.freshr.renderer.ConstraintsRenderer;
+import run.freshr.renderer.DocsGenerator;
+import run.freshr.renderer.DocsRenderer;
+import run.freshr.renderer.IndexRenderer;
+import run.freshr.renderer.NavigationRenderer;
+import run.freshr.renderer.PopupRegistry;
+import run.freshr.renderer.SearchIndexRenderer;
+import run.freshr.template.TemplateCache;
+import run.freshr.writer.DocsManifest;
+import run.freshr.writer.DocsPipeline;
+import run.freshr.writer.DocsWriter;
+import run.freshr.writer.FilerDocsWriter;
+import run.freshr.writer.PathDocsWriter;
 
 /**
  * Process
@@ -51,6 +69,108 @@ import run.freshr.model.DocsModel;
 @AutoService(Processor.class)
 public class RestDocsProcessor extends AbstractProcessor {
 
+  /**
+   * Gradle aggregating 옵션
+   *
+   * @apiNote dynamic Processor 가 getSupportedOptions 로 증분 처리 유형을 알릴 때 사용하는 이름
+   * @since 2026. 10. 18. 오전 6:14:03
+   */
+  private static final String GRADLE_AGGREGATING = "org.gradle.annotation.processing.aggregating";
+
+  /**
+   * 옵션
+   *
+   * @apiNote -A 로 전달한 Processor 옵션
+   * @since 2026. 10. 18. 오전 5:15:34
+   */
+  private RestDocsOptions options;
+  /**
+   * 처리 기록
+   *
+   * @apiNote 문서를 생성한 Round 별 단계 시간과 처리 개수
+   * @since 2026. 10. 18. 오전 5:36:25
+   */
+  private MetricsReport metricsReport;
+  /**
+   * Catalog 저장 여부
+   *
+   * @apiNote CLASS_OUTPUT 의 Catalog 는 한 번만 저장
+   * @since 2026. 10. 18. 오전 5:40:59
+   */
+  private boolean catalogWritten;
+  /**
+   * 제약 조건 조회 클래스에 작성할 제약 조건 목록
+   *
+   * @apiNote 조회 클래스를 생성할 때까지 찾은 Entity Binary 이름별 제약 조건 목록
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private final Map<String, List<ConstraintModel>> constraintSourceMap = new LinkedHashMap<>();
+  /**
+   * 제약 조건 조회 클래스를 생성하게 한 클래스 목록
+   *
+   * @apiNote Entity 를 사용하는 DocsGroup 클래스의 이름 목록
+   * @since 2026. 10. 18. 오전 6:20:55
+   */
+  private final Set<String> constraintsOriginatingSet = new LinkedHashSet<>();
+  /**
+   * 제약 조건 조회 클래스 생성 여부
+   *
+   * @apiNote Filer 는 같은 클래스를 두 번 생성할 수 없기 때문에 한 번만 생성
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private boolean constraintsWritten;
+  /**
+   * Docs 식별자 조회 클래스에 작성할 DocsGroup 목록
+   *
+   * @apiNote 조회 클래스를 생성할 때까지 찾은 DocsGroup 클래스 Binary 이름별 DocsGroup
+   * @since 2026. 10. 18. 오전 6:03:59
+   */
+  private final Map<String, DocsGroupModel> indexGroupMap = new LinkedHashMap<>();
+  /**
+   * Docs 메서드 이름 목록
+   *
+   * @apiNote 모든 Round 의 DocsGroup 클래스 Binary 이름별 Docs 메서드 이름 목록
+   * @since 2026. 10. 18. 오전 6:03:59
+   */
+  private final Map<String, List<String>> methodNameMap = new HashMap<>();
+  /**
+   * Docs 식별자 목록
+   *
+   * @apiNote Round 가 달라도 식별자가 같은 Docs 를 찾을 수 있도록 유지
+   * @since 2026. 10. 18. 오전 6:20:55
+   */
+  private final Set<String> identifierSet = new HashSet<>();
+  /**
+   * Docs 식별자 조회 클래스를 생성하게 한 클래스 목록
+   *
+   * @apiNote Docs 식별자 조회 클래스에 작성한 DocsGroup 클래스의 이름 목록
+   * @since 2026. 10. 18. 오전 6:20:55
+   */
+  private final Set<String> indexOriginatingSet = new LinkedHashSet<>();
+  /**
+   * Docs 식별자 조회 클래스 생성 여부
+   *
+   * @apiNote Filer 는 같은 클래스를 두 번 생성할 수 없기 때문에 한 번만 생성
+   * @since 2026. 10. 18. 오전 6:03:59
+   */
+  private boolean indexWritten;
+
+  /**
+   * 초기화
+   *
+   * @param processingEnv the processing env
+   * @apiNote 옵션은 Processor 마다 한 번만 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:15:34
+   */
+  @Override
+  public synchronized void init(ProcessingEnvironment processingEnv) {
+    super.init(processingEnv);
+
+    this.options = new RestDocsOptions(processingEnv);
+    this.metricsReport = new MetricsReport();
+  }
+
   /**
    * 지원 Annotation 유형 설정
    *
@@ -64,6 +184,29 @@ public class RestDocsProcessor extends AbstractProcessor {
     return Set.of(DocsGroup.class.getName());
   }
 
+  /**
+   * 지원 옵션 설정
+   *
+   * @return the supported options
+   * @apiNote 지원 옵션 설정<br>
+   * Gradle 에 dynamic Processor 로 등록했기 때문에 Filer 로 문서를 생성할 때만 aggregating 으로 알린다.<br>
+   * 문서 Directory 에 직접 저장하는 파일은 Gradle 이 추적하지 못하기 때문에 증분 처리하지 않는다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 4:59:26
+   */
+  @Override
+  public Set<String> getSupportedOptions() {
+    if (isNull(options) || !options.useFiler()) {
+      return RestDocsOptions.NAMES;
+    }
+
+    Set<String> supportedOptions = new HashSet<>(RestDocsOptions.NAMES);
+
+    supportedOptions.add(GRADLE_AGGREGATING);
+
+    return supportedOptions;
+  }
+
   /**
    * 지원 소스 버전 설정
    *
@@ -96,27 +239,14 @@ public class RestDocsProcessor extends AbstractProcessor {
 
       processingEnv.getMessager().printMessage(NOTE, "RestDocsProcessor.process");
 
-      Filer filer = processingEnv.getFiler();
-      /*
-       * TODO: gradle 빌드에서 빌드 경로를 찾기 위해서 아래와 같은 코드를 작성
-       * 임시 파일을 생성해서 경로를 찾아가는데...
-       * 해당 방법 말고 더 세련된 방법을 찾아야 함
-       */
-      FileObject CLASS_OUTPUT_TEMP = filer.createResource(StandardLocation.CLASS_OUTPUT,
-          "", "temp", (Element[]) null);
-      Path ROOT_PATH = Paths.get(CLASS_OUTPUT_TEMP.toUri())
-          .getParent().getParent().getParent().getParent().getParent();
+      // Round 마다 단계별 시간과 처리 개수를 기록
+      DocsMetrics metrics = metricsReport.nextRound();
+      long processStart = System.nanoTime();
+      long phaseStart = processStart;
+      boolean useFiler = options.useFiler();
       // AsciiDoc 문서를 생성할 Path
-      Path DOCS_PATH = ROOT_PATH.resolve(Path.of("src", "docs", "asciidoc"));
-
-      // TODO: 임시파일 삭제...
-      CLASS_OUTPUT_TEMP.delete();
-
-      // AsciiDoc 문서를 생성할 Directory 가 없다면 생성
-      if (!Files.isDirectory(DOCS_PATH)) {
-        Files.createDirectories(DOCS_PATH);
-      }
-
+      Path docsPath = useFiler ? null : options.getOutputDir();
+      Path snippetsPath = null;
       /*
        * index 문서는 프로젝트에서 자유롭게 수정 가능하도록
        * src/main/resources/asciidocs/default-bottom.adoc
@@ -125,287 +255,412 @@ public class RestDocsProcessor extends AbstractProcessor {
        * src/main/resources/asciidocs/popup-bottom.adoc
        * src/main/resources/asciidocs/popup-top.adoc
        * 파일을 읽어오도록 설정
+       * 해당 경로는 restdocs.templateDir 옵션으로 변경 가능
+       */
+      Path projectDocsPath = options.getTemplateDir();
+      /*
+       * 처리 기록 파일은 Round 가 끝날 때 저장하지만 경로는 여기서 조회
+       * 설정하지 않은 경로 옵션이 있을 때만 프로젝트 경로를 탐색하고 그 시간도 DISCOVERY 에 기록
        */
-      Path projectDocsPath = Path.of("src", "main", "resources", "asciidocs");
-      Path customIndexPath = ROOT_PATH
-          .resolve(projectDocsPath.resolve("index.adoc"));
-      Path customDefaultTopPath = ROOT_PATH
-          .resolve(projectDocsPath.resolve("default-top.adoc"));
-      Path customDefaultBottomPath = ROOT_PATH
-          .resolve(projectDocsPath.resolve("default-bottom.adoc"));
-      Path customPopupTopPath = ROOT_PATH
-          .resolve(projectDocsPath.resolve("popup-top.adoc"));
-      Path customPopupBottomPath = ROOT_PATH
-          .resolve(projectDocsPath.resolve("popup-bottom.adoc"));
-      // 프로젝트에 *.adoc 문서가 없다면 해당 모듈에 있는 *.adoc 으로 대체
-      byte[] indexByte = readDoc(customIndexPath,
-          "asciidocs/index.adoc");
-      byte[] defaultTopByte = readDoc(customDefaultTopPath,
-          "asciidocs/default-top.adoc");
-      byte[] defaultBottomByte = readDoc(customDefaultBottomPath,
-          "asciidocs/default-bottom.adoc");
-      byte[] popupTopByte = readDoc(customPopupTopPath,
-          "asciidocs/popup-top.adoc");
-      byte[] popupBottomByte = readDoc(customPopupBottomPath,
-          "asciidocs/popup-bottom.adoc");
-
-      String indexContents = new String(indexByte, UTF_8);
-      String defaultTopContents = new String(defaultTopByte, UTF_8);
-      String defaultBottomContents = new String(defaultBottomByte, UTF_8);
-      String popupTopContents = new String(popupTopByte, UTF_8);
-      String popupBottomContents = new String(popupBottomByte, UTF_8);
-      StringBuilder indexBuilder = new StringBuilder();
-      StringBuilder defaultTopBuilder = new StringBuilder();
-      StringBuilder defaultBottomBuilder = new StringBuilder();
-      StringBuilder popupTopBuilder = new StringBuilder();
-      StringBuilder popupBottomBuilder = new StringBuilder();
-      defaultTopBuilder.append(defaultTopContents).append(lineSeparator());
-      defaultBottomBuilder.append(defaultBottomContents);
-      popupTopBuilder.append(popupTopContents);
-      popupBottomBuilder.append(popupBottomContents);
+      Path metricsPath = !useFiler || options.hasMetricsFile() ? options.getMetricsFile() : null;
+      // Manifest 에 기록할 소유 모듈
+      String owner = useFiler ? null : options.getOwner();
+
+      if (!useFiler) {
+        // AsciiDoc 문서를 생성할 Directory 가 없다면 생성
+        if (!Files.isDirectory(docsPath)) {
+          Files.createDirectories(docsPath);
+        }
+
+        // Snippet Directory 를 설정했다면 문서 Directory 기준 상대 경로로 작성
+        if (options.hasSnippetsDir()) {
+          snippetsPath = docsPath.relativize(options.getSnippetsDir());
+        }
+      }
+
+      metrics.record(Phase.DISCOVERY, phaseStart);
+      phaseStart = System.nanoTime();
+
+      /*
+       * 프로젝트에 *.adoc 문서가 없다면 해당 모듈에 있는 *.adoc 으로 대체
+       * 템플릿은 한 번만 분석하고 Gradle Daemon 이 유지되는 동안 재사용
+       */
+      DocsRenderer docsRenderer = new DocsRenderer(TemplateCache.load(projectDocsPath),
+          snippetsPath);
+
+      metrics.record(Phase.TEMPLATES, phaseStart);
+      phaseStart = System.nanoTime();
 
       List<DocsGroupModel> docsGroupList = new ArrayList<>();
-      List<DocsPopup> popupList = new ArrayList<>();
+      // 모든 Docs 의 팝업을 이름으로 모아서 한 번씩만 생성
+      PopupRegistry popupRegistry = new PopupRegistry();
+      // 문서를 생성하게 한 클래스 정보
+      Map<DocsGroupModel, Element> originatingMap = new IdentityHashMap<>();
+      // Entity 별 Entity 를 사용하는 DocsGroup 클래스 목록
+      Map<TypeElement, List<Element>> entityMap = new LinkedHashMap<>();
 
       /*
        * DcosGroup 과 Docs Annotation 정보를
        * DocsGroupModel 과 DocsModel 로 변환
+       * 전체 Root Element 가 아닌 DocsGroup Annotation 을 적용한 클래스만 조회
        */
-      for (Element element : roundEnv.getRootElements()) {
+      DocsExtractor docsExtractor = new DocsExtractor(processingEnv);
+
+      for (Element element : roundEnv
+          .getElementsAnnotatedWith(docsExtractor.getDocsGroupType())) {
         if (element.getKind() != CLASS) {
           continue;
         }
 
-        DocsGroup group = element.getAnnotation(DocsGroup.class);
+        DocsGroupModel groupModel = docsExtractor.extract(element);
 
-        if (isNull(group)) {
+        if (isNull(groupModel)) {
           continue;
         }
 
-        String className = UPPER_CAMEL.to(LOWER_HYPHEN, element.getSimpleName().toString());
-        String filename = group.name();
-        DisplayName classDisplayName = element.getAnnotation(DisplayName.class);
-        String classDescription = !isNull(classDisplayName) ? classDisplayName.value() : filename;
-        DocsGroupModelBuilder groupBuilder = DocsGroupModel.builder()
-            .name(filename)
-            .description(classDescription)
-            .path(className);
-        List<DocsModel> docsList = new ArrayList<>();
-        List<? extends Element> testList = element.getEnclosedElements()
-            .stream()
-            .filter(item -> !isNull(item.getAnnotation(Docs.class)))
-            .toList();
-
-        for (Element method : testList) {
-          Docs docs = method.getAnnotation(Docs.class);
-
-          if (isNull(docs)) {
-            continue;
+        for (DocsModel docsModel : groupModel.getDocsList()) {
+          for (DocsPopupModel popup : docsModel.getPopupList()) {
+            registerPopup(popupRegistry, popup, element, metrics);
           }
+        }
+
+        for (TypeElement entity : docsExtractor.extractEntities(element)) {
+          entityMap.computeIfAbsent(entity, key -> new ArrayList<>()).add(element);
+        }
+
+        methodNameMap.put(binaryName(element), docsExtractor.extractMethodNames(element));
+        docsGroupList.add(groupModel);
+        originatingMap.put(groupModel, element);
+        metrics.increment(Counter.GROUPS);
+        metrics.add(Counter.DOCS, groupModel.getDocsList().size());
+      }
 
-          String methodName = LOWER_CAMEL.to(LOWER_HYPHEN, method.getSimpleName().toString());
+      /*
+       * Test 에서 Entity 를 Reflection 으로 조회하지 않도록
+       * Compile 할 때 Column 정의를 ColumnType 기준 제약 조건으로 변환
+       */
+      Map<String, List<ConstraintModel>> constraintMap = new LinkedHashMap<>();
+      Map<String, TypeElement> entityPathMap = new LinkedHashMap<>();
+      ConstraintExtractor constraintExtractor = new ConstraintExtractor(processingEnv);
 
-          DisplayName displayName = method.getAnnotation(DisplayName.class);
-          String description = !isNull(displayName) ? displayName.value() :
-              methodName;
-          DocsModel docsModel = DocsModel.builder()
-              .path(methodName)
-              .description(description)
-              .existsPathParameters(docs.existsPathParameters())
-              .existsRequestParts(docs.existsRequestParts())
-              .existsQueryParameters(docs.existsQueryParameters())
-              .existsFormParameters(docs.existsFormParameters())
-              .existsRequestFields(docs.existsRequestFields())
-              .existsResponseFields(docs.existsResponseFields())
-              .build();
+      // Compiler 가 클래스를 읽은 순서와 관계 없이 같은 Catalog 와 조회 클래스를 생성
+      docsGroupList.sort(DocsGenerator.GROUP_ORDER);
 
-          docsList.add(docsModel);
+      List<TypeElement> entityList = new ArrayList<>(entityMap.keySet());
 
-          DocsPopup[] popups = docs.popup();
+      entityList.sort(Comparator.comparing(entity -> processingEnv.getElementUtils()
+          .getBinaryName(entity).toString()));
 
-          if (!isNull(popups) && popups.length > 0) {
-            popupList.addAll(List.of(popups));
-          }
+      for (TypeElement entity : entityList) {
+        String entityPath = CaseConverter.toLowerHyphen(entity.getSimpleName().toString());
+        TypeElement registered = entityPathMap.putIfAbsent(entityPath, entity);
+
+        // 이름이 같은 Entity 는 같은 문서를 덮어쓰기 때문에 생성하지 않고 오류로 알린다.
+        if (!isNull(registered) && !registered.equals(entity)) {
+          processingEnv.getMessager().printMessage(ERROR, "Entity '" + entity.getQualifiedName()
+              + "' has the same constraints document as '" + registered.getQualifiedName() + "'",
+              entityMap.get(entity).get(0));
+          metrics.increment(Counter.FILES_SKIPPED);
+          continue;
         }
 
-        DocsGroupModel groupModel = groupBuilder.docsList(docsList).build();
+        String entityBinaryName = processingEnv.getElementUtils().getBinaryName(entity)
+            .toString();
 
-        docsGroupList.add(groupModel);
-      }
+        constraintMap.put(entityBinaryName, constraintExtractor.extract(entity));
+        metrics.increment(Counter.ENTITIES);
 
-      // 변환한 정보로 navigation 생성
-      StringBuilder navBuilder = new StringBuilder();
+        // 조회 클래스를 생성한 뒤의 Round 에서 찾은 Entity 는 문서만 생성하고 경고로 알린다.
+        if (constraintsWritten) {
+          if (!constraintSourceMap.containsKey(entityBinaryName)) {
+            processingEnv.getMessager().printMessage(WARNING, "Entity '"
+                + entity.getQualifiedName() + "' is found after " + options.getConstraintsClass()
+                + " is generated and is excluded from it", entityMap.get(entity).get(0));
+          }
 
-      navBuilder.append("== 메뉴").append(lineSeparator())
-          .append("=== link:index[Home]").append(lineSeparator());
+          continue;
+        }
 
-      for (DocsGroupModel groupModel : docsGroupList) {
-        navBuilder.append("=== link:")
-            .append(groupModel.getName())
-            .append("[").append(groupModel.getDescription()).append("]")
-            .append(lineSeparator());
+        for (Element element : entityMap.get(entity)) {
+          constraintsOriginatingSet.add(((TypeElement) element).getQualifiedName().toString());
+        }
       }
 
-      // 문서의 타이틀등 상단 영역 작성
-      if (!docsGroupList.isEmpty()) {
-        Path indexPath = DOCS_PATH.resolve("index.adoc");
+      if (!constraintsWritten) {
+        constraintMap.forEach(constraintSourceMap::putIfAbsent);
+      }
 
-        indexBuilder.append(defaultTopBuilder);
-        indexBuilder.append("= Rest Document").append(lineSeparator());
-        indexBuilder.append(lineSeparator());
-        indexBuilder.append(navBuilder).append(lineSeparator());
-        indexBuilder.append(indexContents).append(lineSeparator());
-        indexBuilder.append(defaultBottomBuilder);
+      /*
+       * Test 가 실행 중에 이름을 변환하지 않도록 Docs 식별자 조회 클래스에 작성할 DocsGroup 목록
+       * 식별자가 같은 Docs 는 같은 snippet 을 덮어쓰기 때문에 조회 클래스에 작성하지 않고 경고로 알린다.
+       * 문서는 이전과 같이 생성하기 때문에 Compile 은 실패하지 않는다.
+       */
+      for (DocsGroupModel groupModel : docsGroupList) {
+        String duplicate = null;
 
-        if (!Files.exists(indexPath)) {
-          Path indexDocs = Files.createFile(indexPath);
+        for (DocsModel docsModel : groupModel.getDocsList()) {
+          String identifier = IndexRenderer.identifier(groupModel, docsModel);
 
-          Files.writeString(indexDocs, indexBuilder.toString());
+          if (!identifierSet.add(identifier) && isNull(duplicate)) {
+            duplicate = identifier;
+          }
         }
-      }
 
-      // 문서의 내용을 작성
-      for (DocsGroupModel groupModel : docsGroupList) {
-        if (isNull(groupModel)) {
+        Element element = originatingMap.get(groupModel);
+
+        if (!isNull(duplicate)) {
+          processingEnv.getMessager().printMessage(WARNING, "Docs '" + duplicate
+              + "' is defined more than once and is excluded from the docs index", element);
           continue;
         }
 
-        if (isNull(groupModel.getDocsList())) {
+        if (indexWritten) {
+          processingEnv.getMessager().printMessage(WARNING, "DocsGroup '" + binaryName(element)
+              + "' is found after " + options.getIndexClass()
+              + " is generated and is excluded from it", element);
           continue;
         }
 
-        String groupPath = groupModel.getPath();
-        Path documentPath = DOCS_PATH
-            .resolve(ofNullable(groupModel.getName()).orElse(groupPath) + ".adoc");
-        StringBuilder stringBuilder = new StringBuilder();
-
-        stringBuilder.append(defaultTopBuilder)
-            .append("= ").append(groupModel.getDescription()).append(lineSeparator())
-            .append(lineSeparator())
-            .append(navBuilder).append(lineSeparator())
-            .append("== ").append(groupModel.getDescription()).append(lineSeparator());
-
-        List<DocsModel> docsList = groupModel.getDocsList();
-
-        for (DocsModel docsModel : docsList) {
-          String include = "include::{snippets}/" + groupPath + "/" + docsModel.getPath() + "/";
-
-          stringBuilder
-              .append("[[").append(docsModel.getPath()).append("]]").append(lineSeparator())
-              .append("=== ")
-              .append(ofNullable(docsModel.getDescription()).orElse(docsModel.getPath()))
-              .append(lineSeparator())
-              .append(".fold").append(lineSeparator())
-              .append("[%collapsible]").append(lineSeparator())
-              .append("====").append(lineSeparator());
-
-          if (docsModel.getExistsPathParameters()) {
-            stringBuilder.append(include)
-                .append("path-parameters.adoc[]")
-                .append(lineSeparator()).append(lineSeparator());
-          }
-
-          if (docsModel.getExistsRequestParts()) {
-            stringBuilder.append(include)
-                .append("request-parts.adoc[]")
-                .append(lineSeparator()).append(lineSeparator());
-          }
-
-          if (docsModel.getExistsQueryParameters()) {
-            stringBuilder.append(include)
-                .append("query-parameters.adoc[]")
-                .append(lineSeparator()).append(lineSeparator());
-          }
-
-          if (docsModel.getExistsFormParameters()) {
-            stringBuilder.append(include)
-                .append("form-parameters.adoc[]")
-                .append(lineSeparator()).append(lineSeparator());
-          }
+        indexGroupMap.put(binaryName(element), groupModel);
+        indexOriginatingSet.add(((TypeElement) element).getQualifiedName().toString());
+      }
 
-          if (docsModel.getExistsRequestFields()) {
-            stringBuilder.append(include)
-                .append("request-fields.adoc[]")
-                .append(lineSeparator()).append(lineSeparator());
-          }
+      metrics.record(Phase.EXTRACTION, phaseStart);
 
-          if (docsModel.getExistsResponseFields()) {
-            stringBuilder.append(include)
-                .append("response-fields.adoc[]")
-                .append(lineSeparator()).append(lineSeparator());
-          }
+      /*
+       * PathDocsWriter 는 생성부터 close 까지 문서 Directory 의 Lock 을 유지하기 때문에
+       * 다른 모듈이 오래 기다리지 않도록 변환이 끝난 뒤 생성
+       * partial 모드에서는 다른 모듈과 Manifest 를 공유하지 않는다.
+       */
+      DocsWriter docsWriter;
+      ConstraintsRenderer constraintsRenderer = new ConstraintsRenderer();
+
+      if (useFiler) {
+        docsWriter = new FilerDocsWriter(processingEnv.getFiler(), "asciidoc");
+      } else if (options.isPartial()) {
+        docsWriter = new PathDocsWriter(docsPath,
+            DocsManifest.FILENAME + "-" + options.getModule(), owner);
+      } else {
+        // 모든 모듈이 Manifest 를 공유하기 때문에 소유 모듈 옵션을 설정했다면 문서마다 기록
+        docsWriter = new PathDocsWriter(docsPath, DocsManifest.FILENAME, owner);
+      }
 
-          stringBuilder.append("Request HTTP Example").append(lineSeparator())
-              .append(include).append("http-request.adoc[]").append(lineSeparator())
-              .append(lineSeparator())
-              .append("Response HTTP Example").append(lineSeparator())
-              .append(include).append("http-response.adoc[]").append(lineSeparator())
-              .append(lineSeparator())
-              .append("Curl Example").append(lineSeparator())
-              .append(include).append("curl-request.adoc[]").append(lineSeparator())
-              .append(lineSeparator())
-              .append("====").append(lineSeparator())
-              .append("'''")
-              .append(lineSeparator())
-              .append(lineSeparator());
+      /*
+       * Filer 는 javac Thread 에서만 사용할 수 있기 때문에 비동기 저장을 하지 않는다.
+       * 블록이 끝나면 모든 문서의 생성과 저장이 끝날 때까지 대기한 뒤 Manifest 저장과 Lock 반환
+       * Pipeline 을 생성하지 못해도 Lock 을 반환하도록 Writer 도 같은 블록에서 닫는다.
+       */
+      try (docsWriter; DocsPipeline docsPipeline = new DocsPipeline(docsWriter,
+          options.getParallelism(), !useFiler, metrics)) {
+        boolean useSearch = options.useSearch();
+        DocsGenerator docsGenerator = new DocsGenerator(docsRenderer,
+            new NavigationRenderer(options.isHierarchicalNavigation(), useSearch),
+            options.getShardThreshold(), options.getShardSize(),
+            useSearch ? new SearchIndexRenderer() : null);
+
+        /*
+         * DocsAssembler 를 사용한다면 Test 가 끝난 뒤 Catalog 와 snippet 으로 문서를 생성하기 때문에
+         * 같은 문서를 다른 내용으로 덮어쓰지 않도록 Catalog 와 제약 조건 문서만 생성
+         */
+        if (!options.useAssembler() && options.isPartial()) {
+          // 모든 모듈이 공유하는 메뉴, index, 검색 색인, 팝업 문서는 CatalogAggregator 가 생성
+          docsGenerator.generateGroups(docsPipeline, docsGroupList, originatingMap);
+        } else if (!options.useAssembler()) {
+          // 메뉴, index, DocsGroup, 팝업 문서 생성
+          docsGenerator.generate(docsPipeline, docsGroupList, originatingMap, popupRegistry);
         }
 
-        stringBuilder.append(defaultBottomBuilder);
-
-        // 파일 생성
-        if (!Files.exists(documentPath)) {
-          Path documentDocs = Files.createFile(documentPath);
+        // Entity 별 제약 조건 문서 생성
+        for (Map.Entry<String, TypeElement> entry : entityPathMap.entrySet()) {
+          String entityPath = entry.getKey();
+          TypeElement entity = entry.getValue();
+          List<ConstraintModel> constraintList = constraintMap.get(
+              processingEnv.getElementUtils().getBinaryName(entity).toString());
+          // Element 는 javac Thread 밖에서 사용할 수 없기 때문에 이름을 먼저 조회
+          String entityName = entity.getSimpleName().toString();
+
+          docsPipeline.submit(ConstraintsRenderer.documentName(entityPath),
+              () -> constraintsRenderer.renderSnippet(entityPath, entityName, constraintList),
+              entityMap.get(entity).toArray(Element[]::new));
+        }
 
-          Files.writeString(documentDocs, stringBuilder.toString());
+        /*
+         * Test 가 끝난 뒤 DocsAssembler 가 실제로 생성된 snippet 으로 문서를 다시 생성할 수 있도록
+         * 변환한 정보를 Catalog 로 저장
+         * partial 모드에서는 공유 Directory 대신 Build 출력의 Catalog 만 사용
+         */
+        if (!docsGroupList.isEmpty() && !options.isPartial()) {
+          docsPipeline.submit(DocsCatalog.FILENAME, () -> DocsCatalog.write(docsGroupList),
+              originatingMap.values().toArray(Element[]::new));
         }
       }
 
-      // 팝업 파일 생성
-      for (DocsPopup popup : popupList) {
-        if (!hasLength(popup.name())) {
-          processingEnv.getMessager().printMessage(ERROR, "Not found popup name");
-          continue;
+      // 다른 모듈이 다른 내용으로 작성한 문서를 덮어썼다면 알린다.
+      if (docsWriter instanceof PathDocsWriter pathDocsWriter) {
+        for (String conflict : pathDocsWriter.getConflictList()) {
+          processingEnv.getMessager().printMessage(WARNING, conflict);
         }
+      }
 
-        if (!hasLength(popup.include())) {
-          processingEnv.getMessager().printMessage(ERROR, "Not found popup include path");
-          continue;
+      /*
+       * 다른 도구가 .adoc 문서를 분석하지 않고 API 목록을 읽을 수 있도록
+       * CLASS_OUTPUT 에 Catalog 를 저장해서 Test jar 에 포함
+       * partial 모드에서는 CatalogAggregator 가 읽는 모듈별 Catalog
+       * Filer 는 같은 파일을 두 번 생성할 수 없기 때문에 처음 문서를 생성한 Round 에서만 저장
+       */
+      if (!docsGroupList.isEmpty() && !catalogWritten) {
+        FileObject catalogResource = processingEnv.getFiler().createResource(CLASS_OUTPUT, "",
+            DocsCatalog.RESOURCE, originatingMap.values().toArray(Element[]::new));
+
+        try (Writer writer = new BufferedWriter(
+            new OutputStreamWriter(catalogResource.openOutputStream(), UTF_8))) {
+          DocsCatalog.write(writer, docsGroupList);
         }
 
-        Path documentPath = DOCS_PATH.resolve("popup-" + popup.name() + ".adoc");
-        StringBuilder stringBuilder = new StringBuilder();
+        catalogWritten = true;
+      }
 
-        stringBuilder.append(popupTopBuilder).append(popup.include()).append("[]")
-            .append(lineSeparator())
-            .append(popupBottomBuilder);
+      /*
+       * 조회 클래스는 Filer 로 한 번만 생성할 수 있고
+       * 마지막 Round 에서 생성한 소스는 javac 가 경고로 알리기 때문에 DocsGroup 을 찾은 Round 에서 생성
+       */
+      writeSources();
 
-        // 파일 생성
-        if (!Files.exists(documentPath)) {
-          Path documentDocs = Files.createFile(documentPath);
+      metrics.record(Phase.TOTAL, processStart);
 
-          Files.writeString(documentDocs, stringBuilder.toString());
-        }
+      /*
+       * 지금까지의 Round 기록을 Build Directory 에 저장
+       * Filer 를 사용하면 모든 생성 파일을 Gradle 이 추적하도록
+       * 처리 기록 파일 옵션을 설정한 경우에만 Filer 밖에 저장
+       */
+      if (!isNull(metricsPath)) {
+        metricsReport.write(metricsPath);
+      }
+
+      if (options.isMetricsSummary()) {
+        processingEnv.getMessager().printMessage(NOTE, metrics.summary());
       }
     } catch (Exception e) {
-      e.printStackTrace();
+      // Build 가 성공한 것처럼 보이지 않도록 Compile 오류로 알린다.
+      processingEnv.getMessager().printMessage(ERROR,
+          "RestDocsProcessor failed: " + e.getClass().getSimpleName() + ": " + e.getMessage());
     }
 
     return true;
   }
 
-  private byte[] readDoc(Path path, String resource) throws IOException {
-    byte[] bytes;
+  /**
+   * 조회 클래스 생성
+   *
+   * @throws IOException the io exception
+   * @apiNote Test 에서 필드 경로로 제약 조건을 바로 조회할 수 있도록 제약 조건 조회 클래스 생성<br>
+   * Test 에서 Docs 식별자와 필요한 snippet 목록을 상수로 조회할 수 있도록 Docs 식별자 조회 클래스 생성<br>
+   * 이전 Round 의 Element 는 사용하지 않고 이름으로 다시 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:20:55
+   */
+  private void writeSources() throws IOException {
+    if (!constraintSourceMap.isEmpty() && !constraintsWritten) {
+      JavaFileObject constraintsSource = processingEnv.getFiler().createSourceFile(
+          options.getConstraintsClass(), originatingElements(constraintsOriginatingSet));
+
+      try (Writer writer = new BufferedWriter(
+          new OutputStreamWriter(constraintsSource.openOutputStream(), UTF_8))) {
+        writer.write(escapeSource(new ConstraintsRenderer().renderSource(
+            options.getConstraintsClass(), constraintSourceMap)));
+      }
+
+      constraintsWritten = true;
+    }
+
+    if (!indexGroupMap.isEmpty() && !indexWritten) {
+      JavaFileObject indexSource = processingEnv.getFiler().createSourceFile(
+          options.getIndexClass(), originatingElements(indexOriginatingSet));
+
+      try (Writer writer = new BufferedWriter(
+          new OutputStreamWriter(indexSource.openOutputStream(), UTF_8))) {
+        writer.write(escapeSource(new IndexRenderer().renderSource(options.getIndexClass(),
+            indexGroupMap, methodNameMap)));
+      }
+
+      indexWritten = true;
+    }
+  }
+
+  /**
+   * Escape source string.
+   *
+   * @param source the source
+   * @return the string
+   * @apiNote 생성한 소스는 컴파일러의 -encoding 으로 다시 읽기 때문에<br>
+   * 설명과 상수의 ASCII 가 아닌 문자를 유니코드 Escape 로 바꿔서 인코딩과 관계없이 같은 값으로 Compile
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:41:12
+   */
+  private String escapeSource(String source) {
+    StringBuilder builder = new StringBuilder(source.length());
+
+    for (int i = 0; i < source.length(); i++) {
+      char character = source.charAt(i);
 
-    if (Files.exists(path)) {
-      bytes = Files.readAllBytes(path);
-    } else {
-      ClassPathResource indexResource = new ClassPathResource(resource,
-          this.getClass().getClassLoader());
-      InputStream indexStream = indexResource.getInputStream();
-      bytes = FileCopyUtils.copyToByteArray(indexStream);
+      if (character < 0x80) {
+        builder.append(character);
+      } else {
+        builder.append(String.format("\\u%04x", (int) character));
+      }
     }
 
-    return bytes;
+    return builder.toString();
+  }
+
+  private Element[] originatingElements(Set<String> nameSet) {
+    return nameSet.stream()
+        .map(name -> processingEnv.getElementUtils().getTypeElement(name))
+        .filter(element -> !isNull(element))
+        .toArray(Element[]::new);
+  }
+
+  private String binaryName(Element element) {
+    return processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString();
+  }
+
+  /**
+   * 팝업 등록
+   *
+   * @param popupRegistry 팝업 목록
+   * @param popup         the popup
+   * @param element       팝업을 정의한 DocsGroup 클래스
+   * @param metrics       처리 기록
+   * @apiNote 이름이나 include 경로가 없는 팝업과<br>
+   * 이름이 같은데 include 경로가 다른 팝업은 생성하지 않고 오류로 알린다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:42:39
+   */
+  private void registerPopup(PopupRegistry popupRegistry, DocsPopupModel popup, Element element,
+      DocsMetrics metrics) {
+    metrics.increment(Counter.POPUPS);
+
+    switch (popupRegistry.register(popup)) {
+      case ADDED -> {
+      }
+      // 같은 팝업을 다시 사용한 경우로 건너뛴 파일은 없다.
+      case DUPLICATE -> metrics.increment(Counter.POPUPS_SHARED);
+      case MISSING_NAME -> {
+        processingEnv.getMessager().printMessage(ERROR, "Not found popup name", element);
+        metrics.increment(Counter.FILES_SKIPPED);
+      }
+      case MISSING_INCLUDE -> {
+        processingEnv.getMessager().printMessage(ERROR,
+            "Not found popup include path: " + popup.getName(), element);
+        metrics.increment(Counter.FILES_SKIPPED);
+      }
+      case CONFLICT -> {
+        processingEnv.getMessager().printMessage(ERROR, "Popup '" + popup.getName()
+            + "' includes '" + popup.getInclude() + "' but is already defined with '"
+            + popupRegistry.get(popup.getName()).getInclude() + "'", element);
+        metrics.increment(Counter.FILES_SKIPPED);
+      }
+    }
   }
 
 }
@@ -0,0 +1,221 @@
+package run.freshr.renderer;
+
+import static java.util.Objects.isNull;
+import static run.freshr.renderer.DocsRenderer.LINE_SEPARATOR;
+
+import java.util.List;
+import java.util.Map;
+import run.freshr.model.ConstraintModel;
+
+/**
+ * Constraints Renderer.
+ *
+ * @author FreshR
+ * @apiNote Entity 별 제약 조건 문서와 제약 조건 조회 클래스 생성<br>
+ * 조회 클래스는 Entity 마다 Map 을 만들어 두기 때문에<br>
+ * Test 에서 필드 설명을 작성할 때 Reflection 없이 필드 경로로 바로 조회한다.
+ * @since 2026. 10. 18. 오전 5:46:09
+ */
+public class ConstraintsRenderer {
+
+  /**
+   * 제약 조건 조회 클래스 기본 이름
+   *
+   * @apiNote restdocs.constraintsClass 옵션을 설정하지 않았을 때 사용
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  public static final String DEFAULT_CLASS_NAME = "run.freshr.generated.DocsConstraints";
+
+  /**
+   * 제약 조건 문서 이름 조회
+   *
+   * @param entityPath Entity 클래스 이름을 lower-hyphen 으로 변환한 데이터
+   * @return the string
+   * @apiNote 팝업과 같이 이름으로 include 할 수 있도록 constraints-{entity}.adoc 으로 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  public static String documentName(String entityPath) {
+    return "constraints-" + entityPath + ".adoc";
+  }
+
+  /**
+   * 제약 조건 문서 생성
+   *
+   * @param entityPath     Entity 클래스 이름을 lower-hyphen 으로 변환한 데이터
+   * @param entityName     Entity 클래스 이름
+   * @param constraintList 제약 조건 목록
+   * @return the string
+   * @apiNote 필드 경로, 유형, 크기, 포맷, 필수 여부를 표로 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  public String renderSnippet(String entityPath, String entityName,
+      List<ConstraintModel> constraintList) {
+    StringBuilder stringBuilder = new StringBuilder(128 + constraintList.size() * 96);
+
+    stringBuilder.append("[[constraints-").append(entityPath).append("]]").append(LINE_SEPARATOR)
+        .append(".").append(entityName).append(LINE_SEPARATOR)
+        .append("|===").append(LINE_SEPARATOR)
+        .append("|Path|Type|Size|Format|Required").append(LINE_SEPARATOR);
+
+    for (ConstraintModel constraint : constraintList) {
+      stringBuilder.append(LINE_SEPARATOR)
+          .append("|`+").append(constraint.getPath()).append("+`").append(LINE_SEPARATOR)
+          .append("|`+").append(constraint.getType()).append("+`").append(LINE_SEPARATOR)
+          .append("|").append(escapeCell(constraint.getSize())).append(LINE_SEPARATOR)
+          .append("|").append(escapeCell(constraint.getFormat())).append(LINE_SEPARATOR)
+          .append("|").append(constraint.isRequired()).append(LINE_SEPARATOR);
+    }
+
+    stringBuilder.append("|===").append(LINE_SEPARATOR);
+
+    return stringBuilder.toString();
+  }
+
+  /**
+   * 제약 조건 조회 클래스 생성
+   *
+   * @param className     생성할 클래스의 전체 이름
+   * @param constraintMap Entity 클래스 Binary 이름별 제약 조건 목록
+   * @return the string
+   * @apiNote Entity 마다 별도 메서드에서 Map 을 만들어서<br>
+   * 필드가 많아도 static 초기화 메서드가 64KB 제한을 넘지 않도록 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  public String renderSource(String className,
+      Map<String, List<ConstraintModel>> constraintMap) {
+    int lastDot = className.lastIndexOf('.');
+    String packageName = lastDot < 0 ? "" : className.substring(0, lastDot);
+    String simpleName = className.substring(lastDot + 1);
+    StringBuilder stringBuilder = new StringBuilder(2048 + constraintMap.size() * 1024);
+
+    if (!packageName.isEmpty()) {
+      stringBuilder.append("package ").append(packageName).append(";").append(LINE_SEPARATOR)
+          .append(LINE_SEPARATOR);
+    }
+
+    stringBuilder.append("import java.util.Collections;").append(LINE_SEPARATOR)
+        .append("import java.util.HashMap;").append(LINE_SEPARATOR)
+        .append("import java.util.Map;").append(LINE_SEPARATOR)
+        .append("import javax.annotation.processing.Generated;").append(LINE_SEPARATOR)
+        .append("import run.freshr.enumeration.ColumnType;").append(LINE_SEPARATOR)
+        .append("import run.freshr.model.ConstraintModel;").append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR)
+        .append("/**").append(LINE_SEPARATOR)
+        .append(" * Entity 필드 제약 조건 조회.").append(LINE_SEPARATOR)
+        .append(" *").append(LINE_SEPARATOR)
+        .append(" * @apiNote RestDocsProcessor 가 DocsGroup 의 entity 로 생성한 클래스")
+        .append(LINE_SEPARATOR)
+        .append(" */").append(LINE_SEPARATOR)
+        .append("@Generated(\"run.freshr.processor.RestDocsProcessor\")").append(LINE_SEPARATOR)
+        .append("public final class ").append(simpleName).append(" {").append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR)
+        .append("  private static final Map<String, Map<String, ConstraintModel>> CONSTRAINTS")
+        .append(" = new HashMap<>(").append(constraintMap.size() * 2).append(");")
+        .append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR)
+        .append("  static {").append(LINE_SEPARATOR);
+
+    for (int i = 0; i < constraintMap.size(); i++) {
+      stringBuilder.append("    entity").append(i).append("();").append(LINE_SEPARATOR);
+    }
+
+    stringBuilder.append("  }").append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR)
+        .append("  private ").append(simpleName).append("() {").append(LINE_SEPARATOR)
+        .append("  }").append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR)
+        .append("  public static ConstraintModel get(Class<?> entityClass, String path) {")
+        .append(LINE_SEPARATOR)
+        .append("    return getAll(entityClass).get(path);").append(LINE_SEPARATOR)
+        .append("  }").append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR)
+        .append("  public static Map<String, ConstraintModel> getAll(Class<?> entityClass) {")
+        .append(LINE_SEPARATOR)
+        .append("    return CONSTRAINTS.getOrDefault(entityClass.getName(),")
+        .append(" Collections.emptyMap());").append(LINE_SEPARATOR)
+        .append("  }").append(LINE_SEPARATOR);
+
+    int index = 0;
+
+    for (Map.Entry<String, List<ConstraintModel>> entry : constraintMap.entrySet()) {
+      List<ConstraintModel> constraintList = entry.getValue();
+
+      stringBuilder.append(LINE_SEPARATOR)
+          .append("  private static void entity").append(index++).append("() {")
+          .append(LINE_SEPARATOR)
+          .append("    Map<String, ConstraintModel> constraints = new HashMap<>(")
+          .append(constraintList.size() * 2).append(");").append(LINE_SEPARATOR)
+          .append(LINE_SEPARATOR);
+
+      for (ConstraintModel constraint : constraintList) {
+        stringBuilder.append("    put(constraints, ").append(quote(constraint.getPath()))
+            .append(", ColumnType.").append(constraint.getType().name())
+            .append(", ").append(quote(constraint.getSize()))
+            .append(", ").append(quote(constraint.getFormat()))
+            .append(", ").append(constraint.isRequired()).append(");").append(LINE_SEPARATOR);
+      }
+
+      stringBuilder.append(LINE_SEPARATOR)
+          .append("    CONSTRAINTS.put(").append(quote(entry.getKey()))
+          .append(", Collections.unmodifiableMap(constraints));").append(LINE_SEPARATOR)
+          .append("  }").append(LINE_SEPARATOR);
+    }
+
+    stringBuilder.append(LINE_SEPARATOR)
+        .append("  private static void put(Map<String, ConstraintModel> constraints, String path,")
+        .append(LINE_SEPARATOR)
+        .append("      ColumnType type, String size, String format, boolean required) {")
+        .append(LINE_SEPARATOR)
+        .append("    constraints.put(path, ConstraintModel.builder()").append(LINE_SEPARATOR)
+        .append("        .path(path)").append(LINE_SEPARATOR)
+        .append("        .type(type)").append(LINE_SEPARATOR)
+        .append("        .size(size)").append(LINE_SEPARATOR)
+        .append("        .format(format)").append(LINE_SEPARATOR)
+        .append("        .required(required)").append(LINE_SEPARATOR)
+        .append("        .build());").append(LINE_SEPARATOR)
+        .append("  }").append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR)
+        .append("}").append(LINE_SEPARATOR);
+
+    return stringBuilder.toString();
+  }
+
+  private String escapeCell(String value) {
+    return isNull(value) ? "" : value.replace("|", "\\|");
+  }
+
+  /**
+   * Java 문자열 작성
+   *
+   * @param value the value
+   * @return the string
+   * @apiNote null 이라면 null 을 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:46:09
+   */
+  private String quote(String value) {
+    if (isNull(value)) {
+      return "null";
+    }
+
+    StringBuilder stringBuilder = new StringBuilder(value.length() + 2).append('"');
+
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+
+      switch (c) {
+        case '"' -> stringBuilder.append("\\\"");
+        case '\\' -> stringBuilder.append("\\\\");
+        case '\n' -> stringBuilder.append("\\n");
+        case '\r' -> stringBuilder.append("\\r");
+        default -> stringBuilder.append(c);
+      }
+    }
+
+    return stringBuilder.append('"').toString();
+  }
+
+}
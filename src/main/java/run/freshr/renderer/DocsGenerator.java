@@ -0,0 +1,297 @@
+package run.freshr.renderer;
+
+import static java.util.Objects.isNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import javax.lang.model.element.Element;
+import run.freshr.model.DocsGroupModel;
+import run.freshr.model.DocsPopupModel;
+import run.freshr.writer.DocsPipeline;
+
+/**
+ * Docs Generator.
+ *
+ * @author FreshR
+ * @apiNote DocsGroupModel 목록으로 메뉴, index, DocsGroup, 팝업 문서를 생성<br>
+ * RestDocsProcessor 와 DocsAssembler 가 같은 방법으로 문서를 생성하도록 공유
+ * @since 2026. 10. 18. 오전 5:19:14
+ */
+public class DocsGenerator {
+
+  /**
+   * DocsGroup 순서
+   *
+   * @apiNote 문서 이름, include 경로 순서<br>
+   * Compiler 가 클래스를 읽은 순서와 관계 없이 메뉴, index, 검색 색인을 같은 순서로 생성<br>
+   * Docs 는 Test 클래스에 선언한 순서를 유지
+   * @since 2026. 10. 18. 오전 5:48:17
+   */
+  public static final Comparator<DocsGroupModel> GROUP_ORDER = Comparator
+      .comparing(DocsRenderer::documentName)
+      .thenComparing(DocsGroupModel::getPath, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+  /**
+   * Docs Renderer
+   *
+   * @apiNote index, DocsGroup, 팝업 문서 생성
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private final DocsRenderer docsRenderer;
+  /**
+   * Navigation Renderer
+   *
+   * @apiNote 메뉴 문서 생성
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private final NavigationRenderer navigationRenderer;
+  /**
+   * 문서 분할 기준
+   *
+   * @apiNote Docs 개수가 이 값보다 많은 DocsGroup 은 개요 문서와 분할 문서로 생성<br>
+   * 0 이하라면 분할하지 않음
+   * @since 2026. 10. 18. 오전 5:21:10
+   */
+  private final int shardThreshold;
+  /**
+   * 분할 문서 크기
+   *
+   * @apiNote 분할 문서 하나에 작성할 Docs 개수
+   * @since 2026. 10. 18. 오전 5:21:10
+   */
+  private final int shardSize;
+  /**
+   * Search Index Renderer
+   *
+   * @apiNote 검색 색인 생성<br>
+   * null 이라면 검색 색인을 생성하지 않음
+   * @since 2026. 10. 18. 오전 5:40:19
+   */
+  private final SearchIndexRenderer searchIndexRenderer;
+
+  public DocsGenerator(DocsRenderer docsRenderer, NavigationRenderer navigationRenderer) {
+    this(docsRenderer, navigationRenderer, 0, 1, null);
+  }
+
+  public DocsGenerator(DocsRenderer docsRenderer, NavigationRenderer navigationRenderer,
+      int shardThreshold, int shardSize, SearchIndexRenderer searchIndexRenderer) {
+    this.docsRenderer = docsRenderer;
+    this.navigationRenderer = navigationRenderer;
+    this.shardThreshold = shardThreshold;
+    this.shardSize = Math.max(shardSize, 1);
+    this.searchIndexRenderer = searchIndexRenderer;
+  }
+
+  /**
+   * 문서 생성
+   *
+   * @param docsPipeline   문서를 생성하고 저장할 Pipeline
+   * @param docsGroupList  DocsGroup 목록
+   * @param originatingMap DocsGroup 별 원본 클래스<br>
+   *                       원본 클래스가 없다면 빈 Map
+   * @throws IOException the io exception
+   * @apiNote 이름이나 include 경로가 없는 팝업은 생성하지 않는다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  public void generate(DocsPipeline docsPipeline, List<DocsGroupModel> docsGroupList,
+      Map<DocsGroupModel, Element> originatingMap) throws IOException {
+    generate(docsPipeline, docsGroupList, originatingMap, PopupRegistry.of(docsGroupList));
+  }
+
+  /**
+   * 문서 생성
+   *
+   * @param docsPipeline   문서를 생성하고 저장할 Pipeline
+   * @param docsGroupList  DocsGroup 목록
+   * @param originatingMap DocsGroup 별 원본 클래스<br>
+   *                       원본 클래스가 없다면 빈 Map
+   * @param popupRegistry  생성할 팝업 목록
+   * @throws IOException the io exception
+   * @apiNote 팝업을 미리 검증한 경우 사용
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:42:39
+   */
+  public void generate(DocsPipeline docsPipeline, List<DocsGroupModel> docsGroupList,
+      Map<DocsGroupModel, Element> originatingMap, PopupRegistry popupRegistry)
+      throws IOException {
+    if (docsGroupList.isEmpty()) {
+      return;
+    }
+
+    generateShared(docsPipeline, docsGroupList, originatingMap, popupRegistry);
+    generateGroups(docsPipeline, docsGroupList, originatingMap);
+  }
+
+  /**
+   * 공용 문서 생성
+   *
+   * @param docsPipeline   문서를 생성하고 저장할 Pipeline
+   * @param docsGroupList  DocsGroup 목록
+   * @param originatingMap DocsGroup 별 원본 클래스<br>
+   *                       원본 클래스가 없다면 빈 Map
+   * @param popupRegistry  생성할 팝업 목록
+   * @throws IOException the io exception
+   * @apiNote 메뉴, index, 검색 색인, 팝업 문서처럼 모든 DocsGroup 의 정보로 만드는 문서 생성<br>
+   * 여러 모듈의 Catalog 를 합칠 때는 CatalogAggregator 가 한 번만 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:50:27
+   */
+  public void generateShared(DocsPipeline docsPipeline, List<DocsGroupModel> docsGroupList,
+      Map<DocsGroupModel, Element> originatingMap, PopupRegistry popupRegistry)
+      throws IOException {
+    if (docsGroupList.isEmpty()) {
+      return;
+    }
+
+    List<DocsGroupModel> sortedGroupList = new ArrayList<>(docsGroupList);
+
+    sortedGroupList.sort(Comparator.nullsLast(GROUP_ORDER));
+
+    // index 와 팝업 문서는 모든 DocsGroup 클래스의 정보로 생성
+    Element[] allElements = originatingMap.values().toArray(Element[]::new);
+
+    generateNavigation(docsPipeline, sortedGroupList, allElements);
+    generateIndex(docsPipeline, allElements);
+    generatePopups(docsPipeline, popupRegistry, allElements);
+  }
+
+  /**
+   * 메뉴와 검색 색인 생성
+   *
+   * @param docsPipeline        문서를 생성하고 저장할 Pipeline
+   * @param sortedGroupList     GROUP_ORDER 로 정렬한 DocsGroup 목록
+   * @param originatingElements 원본 클래스 목록
+   * @throws IOException the io exception
+   * @apiNote DocsGroup 목록이 바뀌었을 때만 다시 생성하면 되는 문서
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  public void generateNavigation(DocsPipeline docsPipeline, List<DocsGroupModel> sortedGroupList,
+      Element... originatingElements) throws IOException {
+    // 변환한 정보로 navigation 생성
+    docsPipeline.submit(NavigationRenderer.FILENAME,
+        () -> navigationRenderer.render(sortedGroupList), originatingElements);
+
+    // 검색 색인과 검색 스크립트 생성
+    if (!isNull(searchIndexRenderer)) {
+      docsPipeline.submit(SearchIndexRenderer.INDEX_FILENAME,
+          () -> searchIndexRenderer.render(sortedGroupList, this::pageOf), originatingElements);
+      docsPipeline.submit(SearchIndexRenderer.SCRIPT_FILENAME,
+          searchIndexRenderer::renderScript, originatingElements);
+    }
+  }
+
+  /**
+   * index 문서 생성
+   *
+   * @param docsPipeline        문서를 생성하고 저장할 Pipeline
+   * @param originatingElements 원본 클래스 목록
+   * @throws IOException the io exception
+   * @apiNote 문서의 타이틀등 상단 영역 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  public void generateIndex(DocsPipeline docsPipeline, Element... originatingElements)
+      throws IOException {
+    docsPipeline.submit("index.adoc", docsRenderer::renderIndex, originatingElements);
+  }
+
+  /**
+   * 팝업 문서 생성
+   *
+   * @param docsPipeline        문서를 생성하고 저장할 Pipeline
+   * @param popupRegistry       생성할 팝업 목록
+   * @param originatingElements 원본 클래스 목록
+   * @throws IOException the io exception
+   * @apiNote 같은 팝업을 사용하는 Docs 가 많아도 이름마다 한 번만 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:55:34
+   */
+  public void generatePopups(DocsPipeline docsPipeline, PopupRegistry popupRegistry,
+      Element... originatingElements) throws IOException {
+    for (DocsPopupModel popup : popupRegistry.getPopupList()) {
+      docsPipeline.submit("popup-" + popup.getName() + ".adoc",
+          () -> docsRenderer.renderPopup(popup), originatingElements);
+    }
+  }
+
+  /**
+   * DocsGroup 문서 생성
+   *
+   * @param docsPipeline   문서를 생성하고 저장할 Pipeline
+   * @param docsGroupList  DocsGroup 목록
+   * @param originatingMap DocsGroup 별 원본 클래스<br>
+   *                       원본 클래스가 없다면 빈 Map
+   * @throws IOException the io exception
+   * @apiNote DocsGroup 마다 하나씩 만드는 문서만 생성<br>
+   * 다른 모듈과 같은 Directory 에 생성해도 겹치는 파일이 없다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:50:27
+   */
+  public void generateGroups(DocsPipeline docsPipeline, List<DocsGroupModel> docsGroupList,
+      Map<DocsGroupModel, Element> originatingMap) throws IOException {
+    // 문서의 내용을 작성
+    for (DocsGroupModel groupModel : docsGroupList) {
+      if (isNull(groupModel)) {
+        continue;
+      }
+
+      if (isNull(groupModel.getDocsList())) {
+        continue;
+      }
+
+      Element originatingElement = originatingMap.get(groupModel);
+      Element[] originatingElements = isNull(originatingElement) ? new Element[0]
+          : new Element[]{originatingElement};
+      int docsCount = groupModel.getDocsList().size();
+
+      if (!isSharded(groupModel)) {
+        // 파일 생성
+        docsPipeline.submit(DocsRenderer.documentName(groupModel),
+            () -> docsRenderer.renderGroup(groupModel), originatingElements);
+
+        continue;
+      }
+
+      // Docs 가 많은 DocsGroup 은 개요 문서와 분할 문서로 생성해서 문서 크기를 제한
+      docsPipeline.submit(DocsRenderer.documentName(groupModel),
+          () -> docsRenderer.renderOverview(groupModel, shardSize), originatingElements);
+
+      for (int i = 0; i * shardSize < docsCount; i++) {
+        int shardIndex = i;
+
+        docsPipeline.submit(DocsRenderer.shardName(groupModel, shardIndex),
+            () -> docsRenderer.renderShard(groupModel, shardIndex, shardSize),
+            originatingElements);
+      }
+    }
+  }
+
+  /**
+   * Docs 문서 경로 조회
+   *
+   * @param groupModel the group model
+   * @param docsIndex  DocsGroup 안에서 Docs 순서
+   * @return the string
+   * @apiNote 분할한 DocsGroup 이라면 분할 문서 경로<br>
+   * 확장자를 제외한 경로
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:40:19
+   */
+  private String pageOf(DocsGroupModel groupModel, int docsIndex) {
+    String filename = isSharded(groupModel)
+        ? DocsRenderer.shardName(groupModel, docsIndex / shardSize)
+        : DocsRenderer.documentName(groupModel);
+
+    return filename.substring(0, filename.length() - ".adoc".length());
+  }
+
+  private boolean isSharded(DocsGroupModel groupModel) {
+    return shardThreshold > 0 && groupModel.getDocsList().size() > shardThreshold;
+  }
+
+}
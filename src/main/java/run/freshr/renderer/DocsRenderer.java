@@ -0,0 +1,391 @@
+package run.freshr.renderer;
+
+import static java.util.Objects.isNull;
+import static java.util.Optional.ofNullable;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+import run.freshr.enumeration.SnippetType;
+import run.freshr.model.DocsGroupModel;
+import run.freshr.model.DocsModel;
+import run.freshr.model.DocsPopupModel;
+import run.freshr.template.DocsTemplates;
+
+/**
+ * Docs Renderer.
+ *
+ * @author FreshR
+ * @apiNote index, DocsGroup, 팝업 문서 생성<br>
+ * 템플릿의 {group.name}, {group.description}, {group.path}, {doc.path}, {doc.title},<br>
+ * {popup.name}, {popup.include} 영역을 문서 정보로 치환
+ * @since 2026. 10. 18. 오전 5:09:05
+ */
+public class DocsRenderer {
+
+  /**
+   * 줄바꿈 문자
+   *
+   * @apiNote OS 와 관계 없이 같은 문서가 생성되도록 항상 \n 사용<br>
+   * 같은 입력이라면 어느 Build 환경에서도 byte 단위로 같은 문서를 생성해서 Build Cache 를 재사용
+   * @since 2026. 10. 18. 오전 5:48:17
+   */
+  public static final String LINE_SEPARATOR = "\n";
+  /**
+   * Docs 하나에 필요한 예상 문자 수
+   *
+   * @apiNote 출력 buffer 크기를 미리 계산할 때 사용
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  private static final int DOCS_CAPACITY = 1024;
+
+  /**
+   * 템플릿 목록
+   *
+   * @apiNote 템플릿 목록
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  private final DocsTemplates templates;
+  /**
+   * Snippet 경로
+   *
+   * @apiNote 문서 Directory 기준 Snippet Directory 상대 경로<br>
+   * 값이 있다면 문서 상단에 :snippets: 속성으로 작성
+   * @since 2026. 10. 18. 오전 5:15:34
+   */
+  private final String snippets;
+  /**
+   * Snippet 선택 방법
+   *
+   * @apiNote 기본값은 Docs Annotation 의 exists* 값으로 선택
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  private final SnippetSelector snippetSelector;
+  /**
+   * Snippet 직접 작성 방법
+   *
+   * @apiNote 기본값은 모든 snippet 을 include 로 작성
+   * @since 2026. 10. 18. 오전 5:20:17
+   */
+  private final SnippetInliner snippetInliner;
+
+  public DocsRenderer(DocsTemplates templates) {
+    this(templates, null);
+  }
+
+  public DocsRenderer(DocsTemplates templates, Path snippetsPath) {
+    this(templates, snippetsPath, SnippetSelector.FLAGS);
+  }
+
+  public DocsRenderer(DocsTemplates templates, Path snippetsPath,
+      SnippetSelector snippetSelector) {
+    this(templates, snippetsPath, snippetSelector, SnippetInliner.NONE);
+  }
+
+  public DocsRenderer(DocsTemplates templates, Path snippetsPath,
+      SnippetSelector snippetSelector, SnippetInliner snippetInliner) {
+    this.templates = templates;
+    this.snippets = isNull(snippetsPath) ? null
+        : snippetsPath.toString().replace(File.separatorChar, '/');
+    this.snippetSelector = snippetSelector;
+    this.snippetInliner = snippetInliner;
+  }
+
+  /**
+   * 문서 파일 이름 조회
+   *
+   * @param groupModel the group model
+   * @return the string
+   * @apiNote DocsGroup 이름이 없다면 클래스 이름으로 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  public static String documentName(DocsGroupModel groupModel) {
+    return ofNullable(groupModel.getName()).orElse(groupModel.getPath()) + ".adoc";
+  }
+
+  /**
+   * index 문서 생성
+   *
+   * @return the string
+   * @apiNote index 문서 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  public String renderIndex() {
+    String title = "Rest Document";
+    Function<String, String> resolver = key -> switch (key) {
+      case "doc.path" -> "index";
+      case "doc.title" -> title;
+      default -> null;
+    };
+    StringBuilder indexBuilder = new StringBuilder(pageCapacity()
+        + templates.getIndex().getLiteralLength());
+
+    renderTop(indexBuilder, title, resolver);
+    templates.getIndex().render(indexBuilder, resolver);
+    indexBuilder.append(LINE_SEPARATOR);
+    templates.getDefaultBottom().render(indexBuilder, resolver);
+
+    return indexBuilder.toString();
+  }
+
+  /**
+   * 분할 문서 파일 이름 조회
+   *
+   * @param groupModel the group model
+   * @param shardIndex 분할 문서 순서
+   * @return the string
+   * @apiNote {DocsGroup 이름}-{순서}.adoc<br>
+   * 순서는 1 부터 시작
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:21:10
+   */
+  public static String shardName(DocsGroupModel groupModel, int shardIndex) {
+    return ofNullable(groupModel.getName()).orElse(groupModel.getPath())
+        + "-" + (shardIndex + 1) + ".adoc";
+  }
+
+  /**
+   * DocsGroup 문서 생성
+   *
+   * @param groupModel the group model
+   * @return the string
+   * @apiNote DocsGroup 문서 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  public String renderGroup(DocsGroupModel groupModel) {
+    return renderPage(groupModel, ofNullable(groupModel.getName()).orElse(groupModel.getPath()),
+        groupModel.getDocsList());
+  }
+
+  /**
+   * DocsGroup 개요 문서 생성
+   *
+   * @param groupModel the group model
+   * @param shardSize  분할 문서 하나에 작성할 Docs 개수
+   * @return the string
+   * @apiNote Docs 내용 대신 분할 문서의 Docs 위치로 이동하는 링크 목록을 작성<br>
+   * Docs 가 많아도 문서 크기가 Docs 개수에 비례하는 링크 목록만큼만 증가
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:21:10
+   */
+  public String renderOverview(DocsGroupModel groupModel, int shardSize) {
+    String description = groupModel.getDescription();
+    Function<String, String> resolver = groupResolver(groupModel,
+        ofNullable(groupModel.getName()).orElse(groupModel.getPath()));
+    List<DocsModel> docsList = groupModel.getDocsList();
+    StringBuilder stringBuilder = new StringBuilder(pageCapacity() + docsList.size() * 128);
+
+    renderTop(stringBuilder, description, resolver);
+
+    stringBuilder.append("== ").append(description).append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR);
+
+    for (int i = 0; i < docsList.size(); i++) {
+      DocsModel docsModel = docsList.get(i);
+      String shardName = shardName(groupModel, i / shardSize);
+
+      stringBuilder.append("* link:")
+          .append(shardName, 0, shardName.length() - ".adoc".length())
+          .append("#").append(docsModel.getPath()).append("[")
+          .append(ofNullable(docsModel.getDescription()).orElse(docsModel.getPath()))
+          .append("]").append(LINE_SEPARATOR);
+    }
+
+    stringBuilder.append(LINE_SEPARATOR);
+    templates.getDefaultBottom().render(stringBuilder, resolver);
+
+    return stringBuilder.toString();
+  }
+
+  /**
+   * DocsGroup 분할 문서 생성
+   *
+   * @param groupModel the group model
+   * @param shardIndex 분할 문서 순서
+   * @param shardSize  분할 문서 하나에 작성할 Docs 개수
+   * @return the string
+   * @apiNote DocsGroup 의 Docs 중 shardSize 개만 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:21:10
+   */
+  public String renderShard(DocsGroupModel groupModel, int shardIndex, int shardSize) {
+    List<DocsModel> docsList = groupModel.getDocsList();
+    String shardName = shardName(groupModel, shardIndex);
+    int from = shardIndex * shardSize;
+
+    return renderPage(groupModel, shardName.substring(0, shardName.length() - ".adoc".length()),
+        docsList.subList(from, Math.min(from + shardSize, docsList.size())));
+  }
+
+  /**
+   * DocsGroup 문서 내용 생성
+   *
+   * @param groupModel the group model
+   * @param docPath    문서 경로
+   * @param docsList   작성할 Docs 목록
+   * @return the string
+   * @apiNote DocsGroup 문서와 분할 문서의 공통 영역
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:21:10
+   */
+  private String renderPage(DocsGroupModel groupModel, String docPath, List<DocsModel> docsList) {
+    String description = groupModel.getDescription();
+    Function<String, String> resolver = groupResolver(groupModel, docPath);
+    StringBuilder stringBuilder = new StringBuilder(pageCapacity()
+        + docsList.size() * DOCS_CAPACITY);
+
+    renderTop(stringBuilder, description, resolver);
+
+    stringBuilder.append("== ").append(description).append(LINE_SEPARATOR);
+
+    for (DocsModel docsModel : docsList) {
+      renderDocs(stringBuilder, groupModel.getPath(), docsModel);
+    }
+
+    templates.getDefaultBottom().render(stringBuilder, resolver);
+
+    return stringBuilder.toString();
+  }
+
+  private Function<String, String> groupResolver(DocsGroupModel groupModel, String docPath) {
+    return key -> switch (key) {
+      case "group.name" -> groupModel.getName();
+      case "group.description", "doc.title" -> groupModel.getDescription();
+      case "group.path" -> groupModel.getPath();
+      case "doc.path" -> docPath;
+      default -> null;
+    };
+  }
+
+  /**
+   * 팝업 문서 생성
+   *
+   * @param popup the popup
+   * @return the string
+   * @apiNote 팝업 문서 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  public String renderPopup(DocsPopupModel popup) {
+    Function<String, String> resolver = key -> switch (key) {
+      case "popup.name", "doc.title" -> popup.getName();
+      case "popup.include" -> popup.getInclude();
+      case "doc.path" -> "popup-" + popup.getName();
+      default -> null;
+    };
+    StringBuilder stringBuilder = new StringBuilder(templates.getPopupTop().getLiteralLength()
+        + templates.getPopupBottom().getLiteralLength() + popup.getInclude().length() + 8);
+
+    templates.getPopupTop().render(stringBuilder, resolver);
+    stringBuilder.append(popup.getInclude()).append("[]").append(LINE_SEPARATOR);
+    templates.getPopupBottom().render(stringBuilder, resolver);
+
+    return stringBuilder.toString();
+  }
+
+  /**
+   * 문서 상단 영역 작성
+   *
+   * @param stringBuilder 출력 buffer
+   * @param title         문서 제목
+   * @param resolver      치환 영역 조회 함수
+   * @apiNote 문서의 타이틀과 메뉴 include 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  private void renderTop(StringBuilder stringBuilder, String title,
+      Function<String, String> resolver) {
+    templates.getDefaultTop().render(stringBuilder, resolver);
+
+    stringBuilder.append(LINE_SEPARATOR);
+
+    if (!isNull(snippets)) {
+      stringBuilder.append(":snippets: ").append(snippets).append(LINE_SEPARATOR);
+    }
+
+    stringBuilder.append("= ").append(title).append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR)
+        .append(NavigationRenderer.INCLUDE).append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR);
+  }
+
+  /**
+   * Docs 영역 작성
+   *
+   * @param stringBuilder 출력 buffer
+   * @param groupPath     DocsGroup include 경로
+   * @param docsModel     the docs model
+   * @apiNote Docs 하나의 snippet include 목록 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  private void renderDocs(StringBuilder stringBuilder, String groupPath, DocsModel docsModel) {
+    String include = "include::{snippets}/" + groupPath + "/" + docsModel.getPath() + "/";
+
+    stringBuilder
+        .append("[[").append(docsModel.getPath()).append("]]").append(LINE_SEPARATOR)
+        .append("=== ")
+        .append(ofNullable(docsModel.getDescription()).orElse(docsModel.getPath()))
+        .append(LINE_SEPARATOR)
+        .append(".fold").append(LINE_SEPARATOR)
+        .append("[%collapsible]").append(LINE_SEPARATOR)
+        .append("====").append(LINE_SEPARATOR);
+
+    for (SnippetType snippetType : SnippetType.values()) {
+      if (!snippetSelector.select(groupPath, docsModel, snippetType)) {
+        continue;
+      }
+
+      if (!isNull(snippetType.getTitle())) {
+        stringBuilder.append(snippetType.getTitle()).append(LINE_SEPARATOR);
+      }
+
+      String contents = snippetInliner.inline(groupPath, docsModel, snippetType);
+
+      if (isNull(contents)) {
+        appendInclude(stringBuilder, include, snippetType.getFilename());
+      } else {
+        appendContents(stringBuilder, contents);
+      }
+    }
+
+    stringBuilder.append("====").append(LINE_SEPARATOR)
+        .append("'''").append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR);
+  }
+
+  private void appendInclude(StringBuilder stringBuilder, String include, String snippet) {
+    stringBuilder.append(include).append(snippet).append("[]")
+        .append(LINE_SEPARATOR).append(LINE_SEPARATOR);
+  }
+
+  /**
+   * Snippet 내용 작성
+   *
+   * @param stringBuilder 출력 buffer
+   * @param contents      snippet 내용
+   * @apiNote include 와 같은 결과가 되도록 내용 뒤에 빈 줄을 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:20:17
+   */
+  private void appendContents(StringBuilder stringBuilder, String contents) {
+    // Windows 에서 생성한 snippet 도 같은 줄바꿈으로 작성
+    stringBuilder.append(contents.replace("\r\n", LINE_SEPARATOR));
+
+    if (!contents.endsWith("\n")) {
+      stringBuilder.append(LINE_SEPARATOR);
+    }
+
+    stringBuilder.append(LINE_SEPARATOR);
+  }
+
+  private int pageCapacity() {
+    return templates.getDefaultTop().getLiteralLength()
+        + templates.getDefaultBottom().getLiteralLength() + 256;
+  }
+
+}
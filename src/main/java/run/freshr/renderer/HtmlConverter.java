@@ -0,0 +1,569 @@
+package run.freshr.renderer;
+
+import static java.util.Objects.isNull;
+import static run.freshr.renderer.DocsRenderer.LINE_SEPARATOR;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Html Converter.
+ *
+ * @author FreshR
+ * @apiNote Spring REST Docs snippet 과 템플릿에서 사용하는 AsciiDoc 구문만 HTML 로 변환<br>
+ * 속성, 조건문, 제목, 목록, 문단, [source] 코드 블록, |=== 표, ++++ HTML 블록,<br>
+ * [%collapsible] ==== 접기 블록, include, link: 와 `+code+` 구문을 지원<br>
+ * 지원하지 않는 구문은 문단으로 작성
+ * @since 2026. 10. 18. 오전 6:00:40
+ */
+public class HtmlConverter {
+
+  /**
+   * include 변환 함수
+   *
+   * @apiNote include 대상 경로로 내용을 조회<br>
+   * 찾을 수 없다면 null
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private final Function<String, String> includeResolver;
+
+  public HtmlConverter(Function<String, String> includeResolver) {
+    this.includeResolver = includeResolver;
+  }
+
+  /**
+   * 변환
+   *
+   * @param html     출력 buffer
+   * @param asciidoc AsciiDoc 문서
+   * @apiNote 변환한 HTML 을 출력 buffer 에 바로 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  public void convert(StringBuilder html, String asciidoc) {
+    String[] lines = asciidoc.replace("\r\n", "\n").split("\n", -1);
+    String title = null;
+    String language = null;
+    boolean collapsible = false;
+    int i = 0;
+
+    while (i < lines.length) {
+      String line = lines[i];
+
+      if (line.isBlank() || isDirective(line)) {
+        i++;
+
+        continue;
+      }
+
+      if (line.startsWith("[[") && line.endsWith("]]")) {
+        html.append("<a id=\"").append(escape(line.substring(2, line.length() - 2)))
+            .append("\"></a>").append(LINE_SEPARATOR);
+        i++;
+
+        continue;
+      }
+
+      // 블록 속성은 다음 블록에 적용
+      if (line.startsWith("[") && line.endsWith("]")) {
+        String[] attributes = line.substring(1, line.length() - 1).split(",");
+
+        if ("source".equals(attributes[0].trim()) && attributes.length > 1) {
+          language = attributes[1].trim();
+        }
+
+        collapsible = line.contains("%collapsible");
+        i++;
+
+        continue;
+      }
+
+      if (line.length() > 1 && line.charAt(0) == '.' && line.charAt(1) != '.'
+          && line.charAt(1) != ' ') {
+        title = line.substring(1);
+        i++;
+
+        continue;
+      }
+
+      if (line.startsWith("include::") && line.endsWith("]")) {
+        String target = line.substring("include::".length(), line.lastIndexOf('['));
+        String contents = includeResolver.apply(target);
+
+        if (isNull(contents)) {
+          html.append("<div class=\"paragraph\"><p>Unresolved directive - ")
+              .append(escape(line)).append("</p></div>").append(LINE_SEPARATOR);
+        } else {
+          convert(html, contents);
+        }
+
+        i++;
+      } else if (line.equals("----") || line.equals("....")) {
+        i = appendListing(html, lines, i, title, language);
+      } else if (line.equals("++++")) {
+        int end = findClose(lines, i);
+
+        for (int j = i + 1; j < end; j++) {
+          html.append(lines[j]).append(LINE_SEPARATOR);
+        }
+
+        i = end + 1;
+      } else if (line.equals("|===")) {
+        i = appendTable(html, lines, i, title);
+      } else if (line.equals("====")) {
+        i = appendExample(html, lines, i, title, collapsible);
+      } else if (line.equals("'''")) {
+        html.append("<hr>").append(LINE_SEPARATOR);
+        i++;
+      } else if (headingLevel(line) > 0) {
+        int level = headingLevel(line);
+
+        html.append("<h").append(level).append(">")
+            .append(inline(line.substring(level + 1).trim()))
+            .append("</h").append(level).append(">").append(LINE_SEPARATOR);
+        i++;
+      } else if (line.startsWith("* ")) {
+        html.append("<div class=\"ulist\"><ul>").append(LINE_SEPARATOR);
+
+        while (i < lines.length && lines[i].startsWith("* ")) {
+          html.append("<li><p>").append(inline(lines[i].substring(2).trim()))
+              .append("</p></li>").append(LINE_SEPARATOR);
+          i++;
+        }
+
+        html.append("</ul></div>").append(LINE_SEPARATOR);
+      } else {
+        i = appendParagraph(html, lines, i, title);
+      }
+
+      title = null;
+      language = null;
+      collapsible = false;
+    }
+  }
+
+  /**
+   * HTML 특수 문자 변환
+   *
+   * @param text the text
+   * @return the string
+   * @apiNote null 이라면 빈 문자열
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  public static String escape(String text) {
+    if (isNull(text)) {
+      return "";
+    }
+
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+
+      // 변환할 문자가 없다면 새 문자열을 만들지 않는다.
+      if (c == '&' || c == '<' || c == '>' || c == '"') {
+        StringBuilder stringBuilder = new StringBuilder(text.length() + 16).append(text, 0, i);
+
+        for (int j = i; j < text.length(); j++) {
+          appendEscaped(stringBuilder, text.charAt(j));
+        }
+
+        return stringBuilder.toString();
+      }
+    }
+
+    return text;
+  }
+
+  private static void appendEscaped(StringBuilder stringBuilder, char c) {
+    switch (c) {
+      case '&' -> stringBuilder.append("&amp;");
+      case '<' -> stringBuilder.append("&lt;");
+      case '>' -> stringBuilder.append("&gt;");
+      case '"' -> stringBuilder.append("&quot;");
+      default -> stringBuilder.append(c);
+    }
+  }
+
+  /**
+   * 문장 구문 변환
+   *
+   * @param text the text
+   * @return the string
+   * @apiNote `+code+`, `code`, +passthrough+, link:target[text, role="popup"] 구문 변환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  String inline(String text) {
+    StringBuilder stringBuilder = new StringBuilder(text.length() + 32);
+    int i = 0;
+
+    while (i < text.length()) {
+      char c = text.charAt(i);
+
+      if (text.startsWith("`+", i)) {
+        int end = text.indexOf("+`", i + 2);
+
+        if (end > 0) {
+          stringBuilder.append("<code>").append(escape(text.substring(i + 2, end)))
+              .append("</code>");
+          i = end + 2;
+
+          continue;
+        }
+      } else if (c == '`') {
+        int end = text.indexOf('`', i + 1);
+
+        if (end > i + 1) {
+          stringBuilder.append("<code>").append(inline(text.substring(i + 1, end)))
+              .append("</code>");
+          i = end + 1;
+
+          continue;
+        }
+      } else if (c == '+' && (i == 0 || !Character.isLetterOrDigit(text.charAt(i - 1)))) {
+        int end = text.indexOf('+', i + 1);
+
+        if (end > i + 1 && (end + 1 == text.length()
+            || !Character.isLetterOrDigit(text.charAt(end + 1)))) {
+          stringBuilder.append(escape(text.substring(i + 1, end)));
+          i = end + 1;
+
+          continue;
+        }
+      } else if (text.startsWith("link:", i)) {
+        int open = text.indexOf('[', i);
+        int close = open < 0 ? -1 : text.indexOf(']', open);
+
+        if (close > 0 && text.substring(i, open).indexOf(' ') < 0) {
+          appendLink(stringBuilder, text.substring(i + "link:".length(), open),
+              text.substring(open + 1, close));
+          i = close + 1;
+
+          continue;
+        }
+      }
+
+      appendEscaped(stringBuilder, c);
+      i++;
+    }
+
+    return stringBuilder.toString();
+  }
+
+  /**
+   * 링크 작성
+   *
+   * @param stringBuilder 출력 buffer
+   * @param target        링크 경로
+   * @param attributes    링크 속성<br>
+   *                      첫 번째 값은 링크 문자열
+   * @apiNote role="popup" 속성이 있다면 class 로 작성해서 default-bottom 의 팝업 스크립트가 동작
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private void appendLink(StringBuilder stringBuilder, String target, String attributes) {
+    String[] values = attributes.split(",");
+    String text = values[0].trim();
+    String role = null;
+
+    for (int i = 1; i < values.length; i++) {
+      String value = values[i].trim();
+
+      if (value.startsWith("role=")) {
+        role = value.substring("role=".length()).replace("\"", "");
+      }
+    }
+
+    stringBuilder.append("<a href=\"").append(escape(target)).append("\"");
+
+    if (!isNull(role)) {
+      stringBuilder.append(" class=\"").append(escape(role)).append("\"");
+    }
+
+    stringBuilder.append(">").append(escape(text.isEmpty() ? target : text)).append("</a>");
+  }
+
+  /**
+   * 코드 블록 작성
+   *
+   * @param html     출력 buffer
+   * @param lines    문서 줄 목록
+   * @param start    시작 구분선 위치
+   * @param title    블록 제목
+   * @param language [source] 속성의 언어
+   * @return 다음 줄 위치
+   * @apiNote 내용은 특수 문자만 변환하고 줄바꿈을 유지
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private int appendListing(StringBuilder html, String[] lines, int start, String title,
+      String language) {
+    int end = findClose(lines, start);
+
+    html.append("<div class=\"listingblock\">");
+    appendTitle(html, title);
+    html.append("<pre class=\"highlight\"><code");
+
+    if (!isNull(language)) {
+      html.append(" class=\"language-").append(escape(language))
+          .append("\" data-lang=\"").append(escape(language)).append("\"");
+    }
+
+    html.append(">");
+
+    for (int i = start + 1; i < end; i++) {
+      if (i > start + 1) {
+        html.append(LINE_SEPARATOR);
+      }
+
+      html.append(escape(lines[i]));
+    }
+
+    html.append("</code></pre></div>").append(LINE_SEPARATOR);
+
+    return end + 1;
+  }
+
+  /**
+   * 표 작성
+   *
+   * @param html  출력 buffer
+   * @param lines 문서 줄 목록
+   * @param start 시작 구분선 위치
+   * @param title 표 제목
+   * @return 다음 줄 위치
+   * @apiNote 첫 줄 다음에 빈 줄이 있다면 첫 줄을 머리글로 작성<br>
+   * 첫 줄의 셀 개수로 행을 나누고 | 로 시작하지 않는 줄은 앞 셀의 내용으로 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private int appendTable(StringBuilder html, String[] lines, int start, String title) {
+    int end = findClose(lines, start);
+    List<String> cellList = new ArrayList<>();
+    int columns = 0;
+    boolean header = false;
+
+    for (int i = start + 1; i < end; i++) {
+      String line = lines[i];
+
+      if (line.isBlank()) {
+        continue;
+      }
+
+      if (!line.startsWith("|")) {
+        if (!cellList.isEmpty()) {
+          cellList.set(cellList.size() - 1, cellList.get(cellList.size() - 1) + " " + line.trim());
+        }
+
+        continue;
+      }
+
+      List<String> rowList = splitCells(line);
+
+      if (columns == 0) {
+        columns = rowList.size();
+        header = i + 1 < end && lines[i + 1].isBlank();
+      }
+
+      cellList.addAll(rowList);
+    }
+
+    html.append("<table class=\"tableblock\">").append(LINE_SEPARATOR);
+
+    if (!isNull(title)) {
+      html.append("<caption class=\"title\">").append(inline(title)).append("</caption>")
+          .append(LINE_SEPARATOR);
+    }
+
+    int bodyStart = header ? columns : 0;
+
+    if (header) {
+      html.append("<thead>");
+      appendRow(html, cellList, 0, columns, "th");
+      html.append("</thead>").append(LINE_SEPARATOR);
+    }
+
+    if (cellList.size() > bodyStart) {
+      html.append("<tbody>").append(LINE_SEPARATOR);
+
+      for (int i = bodyStart; i < cellList.size(); i += columns) {
+        appendRow(html, cellList, i, columns, "td");
+        html.append(LINE_SEPARATOR);
+      }
+
+      html.append("</tbody>").append(LINE_SEPARATOR);
+    }
+
+    html.append("</table>").append(LINE_SEPARATOR);
+
+    return end + 1;
+  }
+
+  private void appendRow(StringBuilder html, List<String> cellList, int from, int columns,
+      String tag) {
+    html.append("<tr>");
+
+    for (int i = from; i < Math.min(from + columns, cellList.size()); i++) {
+      html.append("<").append(tag).append(">").append(inline(cellList.get(i)))
+          .append("</").append(tag).append(">");
+    }
+
+    html.append("</tr>");
+  }
+
+  /**
+   * 셀 분리
+   *
+   * @param line | 로 시작하는 줄
+   * @return the list
+   * @apiNote \| 는 셀 구분자가 아닌 문자로 변환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private List<String> splitCells(String line) {
+    List<String> cellList = new ArrayList<>();
+    StringBuilder cell = new StringBuilder();
+
+    for (int i = 1; i < line.length(); i++) {
+      char c = line.charAt(i);
+
+      if (c == '\\' && i + 1 < line.length() && line.charAt(i + 1) == '|') {
+        cell.append('|');
+        i++;
+      } else if (c == '|') {
+        cellList.add(cell.toString().trim());
+        cell.setLength(0);
+      } else {
+        cell.append(c);
+      }
+    }
+
+    cellList.add(cell.toString().trim());
+
+    return cellList;
+  }
+
+  /**
+   * 예제 블록 작성
+   *
+   * @param html        출력 buffer
+   * @param lines       문서 줄 목록
+   * @param start       시작 구분선 위치
+   * @param title       블록 제목
+   * @param collapsible [%collapsible] 여부
+   * @return 다음 줄 위치
+   * @apiNote [%collapsible] 블록은 details 로 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private int appendExample(StringBuilder html, String[] lines, int start, String title,
+      boolean collapsible) {
+    int end = findClose(lines, start);
+    String contents = String.join(LINE_SEPARATOR,
+        Arrays.copyOfRange(lines, start + 1, end));
+
+    if (collapsible) {
+      html.append("<details><summary class=\"title\">")
+          .append(isNull(title) ? "Details" : inline(title)).append("</summary>")
+          .append(LINE_SEPARATOR)
+          .append("<div class=\"content\">").append(LINE_SEPARATOR);
+      convert(html, contents);
+      html.append("</div></details>").append(LINE_SEPARATOR);
+    } else {
+      html.append("<div class=\"exampleblock\">");
+      appendTitle(html, title);
+      html.append("<div class=\"content\">").append(LINE_SEPARATOR);
+      convert(html, contents);
+      html.append("</div></div>").append(LINE_SEPARATOR);
+    }
+
+    return end + 1;
+  }
+
+  private int appendParagraph(StringBuilder html, String[] lines, int start, String title) {
+    int i = start;
+    StringBuilder paragraph = new StringBuilder();
+
+    while (i < lines.length && !lines[i].isBlank() && !isDelimiter(lines[i])) {
+      if (i > start) {
+        paragraph.append(LINE_SEPARATOR);
+      }
+
+      paragraph.append(lines[i]);
+      i++;
+    }
+
+    html.append("<div class=\"paragraph\">");
+    appendTitle(html, title);
+    html.append("<p>").append(inline(paragraph.toString())).append("</p></div>")
+        .append(LINE_SEPARATOR);
+
+    return i;
+  }
+
+  private void appendTitle(StringBuilder html, String title) {
+    if (!isNull(title)) {
+      html.append("<div class=\"title\">").append(inline(title)).append("</div>");
+    }
+  }
+
+  /**
+   * 닫는 구분선 위치 조회
+   *
+   * @param lines 문서 줄 목록
+   * @param start 시작 구분선 위치
+   * @return 닫는 구분선이 없다면 문서 끝
+   * @apiNote 시작 구분선과 같은 줄을 찾는다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private int findClose(String[] lines, int start) {
+    for (int i = start + 1; i < lines.length; i++) {
+      if (lines[i].equals(lines[start])) {
+        return i;
+      }
+    }
+
+    return lines.length;
+  }
+
+  /**
+   * 출력하지 않는 줄 여부
+   *
+   * @param line the line
+   * @return the boolean
+   * @apiNote :name: value 속성, ifdef::, ifndef::, endif:: 조건문, // 주석
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private boolean isDirective(String line) {
+    if (line.startsWith("ifdef::") || line.startsWith("ifndef::")
+        || line.startsWith("endif::") || (line.startsWith("//") && !line.startsWith("////"))) {
+      return true;
+    }
+
+    int end = line.indexOf(':', 1);
+
+    return line.startsWith(":") && end > 1 && line.substring(1, end).indexOf(' ') < 0
+        && (end + 1 == line.length() || line.charAt(end + 1) == ' ');
+  }
+
+  private boolean isDelimiter(String line) {
+    return line.equals("----") || line.equals("....") || line.equals("++++")
+        || line.equals("|===") || line.equals("====") || line.startsWith("include::");
+  }
+
+  private int headingLevel(String line) {
+    int level = 0;
+
+    while (level < line.length() && line.charAt(level) == '=') {
+      level++;
+    }
+
+    return level > 0 && level <= 6 && level < line.length() && line.charAt(level) == ' '
+        ? level : 0;
+  }
+
+}
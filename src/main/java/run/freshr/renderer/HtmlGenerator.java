@@ -0,0 +1,162 @@
+package run.freshr.renderer;
+
+import static java.util.Objects.isNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import run.freshr.model.DocsGroupModel;
+import run.freshr.model.DocsPopupModel;
+import run.freshr.writer.DocsPipeline;
+
+/**
+ * Html Generator.
+ *
+ * @author FreshR
+ * @apiNote DocsGenerator 와 같은 문서 목록을 Asciidoctor 없이 HTML 로 생성<br>
+ * 문서마다 Pipeline 에 등록해서 DocsGroup 문서를 병렬로 생성하고<br>
+ * 메뉴는 한 번만 변환해서 모든 문서가 공유
+ * @since 2026. 10. 18. 오전 6:00:40
+ */
+public class HtmlGenerator {
+
+  /**
+   * Html Renderer
+   *
+   * @apiNote index, DocsGroup, 팝업 문서 생성
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private final HtmlRenderer htmlRenderer;
+  /**
+   * Navigation Renderer
+   *
+   * @apiNote 메뉴 생성
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private final NavigationRenderer navigationRenderer;
+  /**
+   * 문서 분할 기준
+   *
+   * @apiNote Docs 개수가 이 값보다 많은 DocsGroup 은 개요 문서와 분할 문서로 생성<br>
+   * 0 이하라면 분할하지 않음
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private final int shardThreshold;
+  /**
+   * 분할 문서 크기
+   *
+   * @apiNote 분할 문서 하나에 작성할 Docs 개수
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private final int shardSize;
+  /**
+   * Search Index Renderer
+   *
+   * @apiNote 검색 색인 생성<br>
+   * null 이라면 검색 색인을 생성하지 않음
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private final SearchIndexRenderer searchIndexRenderer;
+
+  public HtmlGenerator(HtmlRenderer htmlRenderer, NavigationRenderer navigationRenderer,
+      int shardThreshold, int shardSize, SearchIndexRenderer searchIndexRenderer) {
+    this.htmlRenderer = htmlRenderer;
+    this.navigationRenderer = navigationRenderer;
+    this.shardThreshold = shardThreshold;
+    this.shardSize = Math.max(shardSize, 1);
+    this.searchIndexRenderer = searchIndexRenderer;
+  }
+
+  /**
+   * 문서 생성
+   *
+   * @param docsPipeline  문서를 생성하고 저장할 Pipeline
+   * @param docsGroupList DocsGroup 목록
+   * @param popupRegistry 생성할 팝업 목록
+   * @throws IOException the io exception
+   * @apiNote 공용 Stylesheet, 검색 색인, index, 팝업, DocsGroup 문서 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  public void generate(DocsPipeline docsPipeline, List<DocsGroupModel> docsGroupList,
+      PopupRegistry popupRegistry) throws IOException {
+    if (docsGroupList.isEmpty()) {
+      return;
+    }
+
+    List<DocsGroupModel> sortedGroupList = new ArrayList<>(docsGroupList);
+
+    sortedGroupList.sort(Comparator.nullsLast(DocsGenerator.GROUP_ORDER));
+
+    // 모든 문서에 작성할 메뉴는 한 번만 변환
+    String navigation = htmlRenderer.renderNavigation(navigationRenderer.render(sortedGroupList));
+
+    docsPipeline.submit(HtmlRenderer.STYLESHEET_FILENAME, htmlRenderer::renderStylesheet);
+
+    // 검색 색인은 확장자가 없는 경로를 사용하기 때문에 DocsGenerator 와 같은 내용으로 생성
+    if (!isNull(searchIndexRenderer)) {
+      docsPipeline.submit(SearchIndexRenderer.INDEX_FILENAME,
+          () -> searchIndexRenderer.render(sortedGroupList, this::pageOf));
+      docsPipeline.submit(SearchIndexRenderer.SCRIPT_FILENAME,
+          searchIndexRenderer::renderScript);
+    }
+
+    docsPipeline.submit("index" + HtmlRenderer.EXTENSION,
+        () -> htmlRenderer.renderIndex(navigation));
+
+    for (DocsPopupModel popup : popupRegistry.getPopupList()) {
+      docsPipeline.submit("popup-" + popup.getName() + HtmlRenderer.EXTENSION,
+          () -> htmlRenderer.renderPopup(popup));
+    }
+
+    for (DocsGroupModel groupModel : sortedGroupList) {
+      if (isNull(groupModel) || isNull(groupModel.getDocsList())) {
+        continue;
+      }
+
+      int docsCount = groupModel.getDocsList().size();
+
+      if (!isSharded(groupModel)) {
+        docsPipeline.submit(HtmlRenderer.documentName(groupModel),
+            () -> htmlRenderer.renderGroup(groupModel, navigation));
+
+        continue;
+      }
+
+      docsPipeline.submit(HtmlRenderer.documentName(groupModel),
+          () -> htmlRenderer.renderOverview(groupModel, shardSize, navigation));
+
+      for (int i = 0; i * shardSize < docsCount; i++) {
+        int shardIndex = i;
+
+        docsPipeline.submit(HtmlRenderer.shardName(groupModel, shardIndex),
+            () -> htmlRenderer.renderShard(groupModel, shardIndex, shardSize, navigation));
+      }
+    }
+  }
+
+  /**
+   * Docs 문서 경로 조회
+   *
+   * @param groupModel the group model
+   * @param docsIndex  DocsGroup 안에서 Docs 순서
+   * @return the string
+   * @apiNote 분할한 DocsGroup 이라면 분할 문서 경로<br>
+   * 확장자를 제외한 경로
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private String pageOf(DocsGroupModel groupModel, int docsIndex) {
+    String filename = isSharded(groupModel)
+        ? HtmlRenderer.shardName(groupModel, docsIndex / shardSize)
+        : HtmlRenderer.documentName(groupModel);
+
+    return filename.substring(0, filename.length() - HtmlRenderer.EXTENSION.length());
+  }
+
+  private boolean isSharded(DocsGroupModel groupModel) {
+    return shardThreshold > 0 && groupModel.getDocsList().size() > shardThreshold;
+  }
+
+}
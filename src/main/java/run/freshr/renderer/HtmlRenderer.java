@@ -0,0 +1,500 @@
+package run.freshr.renderer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.Optional.ofNullable;
+import static run.freshr.renderer.DocsRenderer.LINE_SEPARATOR;
+import static run.freshr.renderer.HtmlConverter.escape;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+import run.freshr.enumeration.SnippetType;
+import run.freshr.model.DocsGroupModel;
+import run.freshr.model.DocsModel;
+import run.freshr.model.DocsPopupModel;
+import run.freshr.template.DocsTemplates;
+import run.freshr.template.Template;
+
+/**
+ * Html Renderer.
+ *
+ * @author FreshR
+ * @apiNote Asciidoctor 없이 index, DocsGroup, 팝업 HTML 문서 생성<br>
+ * DocsRenderer 와 같은 구조의 문서를 DocsGroup 정보로 바로 작성하고<br>
+ * snippet 과 템플릿만 HtmlConverter 로 변환<br>
+ * 모든 문서는 같은 restdocs.css 를 사용
+ * @since 2026. 10. 18. 오전 6:00:40
+ */
+public class HtmlRenderer {
+
+  /**
+   * 문서 확장자
+   *
+   * @apiNote 문서 확장자
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  public static final String EXTENSION = ".html";
+  /**
+   * 공용 Stylesheet 파일 이름
+   *
+   * @apiNote 모든 문서가 link 로 사용
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  public static final String STYLESHEET_FILENAME = "restdocs.css";
+  /**
+   * Snippet include 경로
+   *
+   * @apiNote 이 경로로 시작하는 include 는 Snippet Directory 의 파일로 변환
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private static final String SNIPPETS = "{snippets}/";
+  /**
+   * Docs 하나에 필요한 예상 문자 수
+   *
+   * @apiNote 출력 buffer 크기를 미리 계산할 때 사용<br>
+   * snippet 내용을 모두 작성하기 때문에 DocsRenderer 보다 크게 설정
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private static final int DOCS_CAPACITY = 8192;
+
+  /**
+   * 템플릿 목록
+   *
+   * @apiNote 템플릿 목록
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private final DocsTemplates templates;
+  /**
+   * Snippet Directory
+   *
+   * @apiNote Spring REST Docs 가 snippet 을 생성한 Directory
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private final Path snippetsPath;
+  /**
+   * Snippet 선택 방법
+   *
+   * @apiNote 작성할 snippet 선택
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private final SnippetSelector snippetSelector;
+  /**
+   * Html Converter
+   *
+   * @apiNote snippet 과 템플릿 변환
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private final HtmlConverter htmlConverter;
+  /**
+   * 공용 Stylesheet
+   *
+   * @apiNote 처음 조회할 때 모듈에 포함된 restdocs.css 를 읽는다.
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private String stylesheet;
+
+  public HtmlRenderer(DocsTemplates templates, Path snippetsPath,
+      SnippetSelector snippetSelector) {
+    this.templates = templates;
+    this.snippetsPath = snippetsPath;
+    this.snippetSelector = snippetSelector;
+    this.htmlConverter = new HtmlConverter(this::resolveInclude);
+  }
+
+  /**
+   * 문서 파일 이름 조회
+   *
+   * @param groupModel the group model
+   * @return the string
+   * @apiNote DocsRenderer 문서와 이름이 같고 확장자만 .html
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  public static String documentName(DocsGroupModel groupModel) {
+    return ofNullable(groupModel.getName()).orElse(groupModel.getPath()) + EXTENSION;
+  }
+
+  /**
+   * 분할 문서 파일 이름 조회
+   *
+   * @param groupModel the group model
+   * @param shardIndex 분할 문서 순서
+   * @return the string
+   * @apiNote DocsRenderer 분할 문서와 이름이 같고 확장자만 .html
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  public static String shardName(DocsGroupModel groupModel, int shardIndex) {
+    return ofNullable(groupModel.getName()).orElse(groupModel.getPath())
+        + "-" + (shardIndex + 1) + EXTENSION;
+  }
+
+  /**
+   * 메뉴 생성
+   *
+   * @param navigation NavigationRenderer 가 생성한 메뉴
+   * @return the string
+   * @apiNote HTML 문서는 include 를 사용할 수 없기 때문에 한 번 변환한 메뉴를 모든 문서에 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  public String renderNavigation(String navigation) {
+    StringBuilder html = new StringBuilder(navigation.length() * 2);
+
+    htmlConverter.convert(html, navigation);
+
+    return html.toString();
+  }
+
+  /**
+   * index 문서 생성
+   *
+   * @param navigation 변환한 메뉴
+   * @return the string
+   * @apiNote index 문서 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  public String renderIndex(String navigation) {
+    String title = "Rest Document";
+    Function<String, String> resolver = key -> switch (key) {
+      case "doc.path" -> "index";
+      case "doc.title" -> title;
+      default -> null;
+    };
+    StringBuilder html = new StringBuilder(pageCapacity(navigation)
+        + templates.getIndex().getLiteralLength() * 2);
+
+    renderTop(html, title, navigation, resolver);
+    convertTemplate(html, templates.getIndex(), resolver);
+    renderBottom(html, resolver);
+
+    return html.toString();
+  }
+
+  /**
+   * DocsGroup 문서 생성
+   *
+   * @param groupModel the group model
+   * @param navigation 변환한 메뉴
+   * @return the string
+   * @apiNote DocsGroup 문서 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  public String renderGroup(DocsGroupModel groupModel, String navigation) {
+    return renderPage(groupModel, ofNullable(groupModel.getName()).orElse(groupModel.getPath()),
+        groupModel.getDocsList(), navigation);
+  }
+
+  /**
+   * DocsGroup 개요 문서 생성
+   *
+   * @param groupModel the group model
+   * @param shardSize  분할 문서 하나에 작성할 Docs 개수
+   * @param navigation 변환한 메뉴
+   * @return the string
+   * @apiNote 분할 문서의 Docs 위치로 이동하는 링크 목록을 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  public String renderOverview(DocsGroupModel groupModel, int shardSize, String navigation) {
+    String description = groupModel.getDescription();
+    Function<String, String> resolver = groupResolver(groupModel,
+        ofNullable(groupModel.getName()).orElse(groupModel.getPath()));
+    List<DocsModel> docsList = groupModel.getDocsList();
+    StringBuilder html = new StringBuilder(pageCapacity(navigation) + docsList.size() * 160);
+
+    renderTop(html, description, navigation, resolver);
+
+    html.append("<h2>").append(escape(description)).append("</h2>").append(LINE_SEPARATOR)
+        .append("<div class=\"ulist\"><ul>").append(LINE_SEPARATOR);
+
+    for (int i = 0; i < docsList.size(); i++) {
+      DocsModel docsModel = docsList.get(i);
+      String shardName = shardName(groupModel, i / shardSize);
+
+      // DocsRenderer 문서와 같은 경로로 이동하도록 확장자를 제외
+      html.append("<li><p><a href=\"")
+          .append(escape(shardName.substring(0, shardName.length() - EXTENSION.length())))
+          .append("#").append(escape(docsModel.getPath())).append("\">")
+          .append(escape(ofNullable(docsModel.getDescription()).orElse(docsModel.getPath())))
+          .append("</a></p></li>").append(LINE_SEPARATOR);
+    }
+
+    html.append("</ul></div>").append(LINE_SEPARATOR);
+    renderBottom(html, resolver);
+
+    return html.toString();
+  }
+
+  /**
+   * DocsGroup 분할 문서 생성
+   *
+   * @param groupModel the group model
+   * @param shardIndex 분할 문서 순서
+   * @param shardSize  분할 문서 하나에 작성할 Docs 개수
+   * @param navigation 변환한 메뉴
+   * @return the string
+   * @apiNote DocsGroup 의 Docs 중 shardSize 개만 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  public String renderShard(DocsGroupModel groupModel, int shardIndex, int shardSize,
+      String navigation) {
+    List<DocsModel> docsList = groupModel.getDocsList();
+    String shardName = shardName(groupModel, shardIndex);
+    int from = shardIndex * shardSize;
+
+    return renderPage(groupModel, shardName.substring(0, shardName.length() - EXTENSION.length()),
+        docsList.subList(from, Math.min(from + shardSize, docsList.size())), navigation);
+  }
+
+  /**
+   * 팝업 문서 생성
+   *
+   * @param popup the popup
+   * @return the string
+   * @apiNote DocsRenderer 와 같이 popup-top, include, popup-bottom 순서로 작성<br>
+   * 팝업 창에 표시하기 때문에 메뉴는 작성하지 않는다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  public String renderPopup(DocsPopupModel popup) {
+    Function<String, String> resolver = key -> switch (key) {
+      case "popup.name", "doc.title" -> popup.getName();
+      case "popup.include" -> popup.getInclude();
+      case "doc.path" -> "popup-" + popup.getName();
+      default -> null;
+    };
+    StringBuilder asciidoc = new StringBuilder(templates.getPopupTop().getLiteralLength()
+        + templates.getPopupBottom().getLiteralLength() + popup.getInclude().length() + 8);
+
+    // popup-top 은 include 구문 앞부분으로 끝나기 때문에 하나의 AsciiDoc 문서로 합친 뒤 변환
+    templates.getPopupTop().render(asciidoc, resolver);
+    asciidoc.append(popup.getInclude()).append("[]").append(LINE_SEPARATOR);
+    templates.getPopupBottom().render(asciidoc, resolver);
+
+    StringBuilder html = new StringBuilder(pageCapacity(null) + DOCS_CAPACITY);
+
+    openDocument(html, popup.getName());
+    html.append("<main id=\"content\">").append(LINE_SEPARATOR);
+    htmlConverter.convert(html, asciidoc.toString());
+    closeDocument(html);
+
+    return html.toString();
+  }
+
+  /**
+   * 공용 Stylesheet 조회
+   *
+   * @return the string
+   * @apiNote 모듈에 포함된 restdocs.css 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  public String renderStylesheet() {
+    if (isNull(stylesheet)) {
+      try (InputStream inputStream = HtmlRenderer.class
+          .getResourceAsStream("/restdocs/" + STYLESHEET_FILENAME)) {
+        if (isNull(inputStream)) {
+          throw new IOException("Not found " + STYLESHEET_FILENAME);
+        }
+
+        stylesheet = new String(inputStream.readAllBytes(), UTF_8);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    return stylesheet;
+  }
+
+  /**
+   * DocsGroup 문서 내용 생성
+   *
+   * @param groupModel the group model
+   * @param docPath    문서 경로
+   * @param docsList   작성할 Docs 목록
+   * @param navigation 변환한 메뉴
+   * @return the string
+   * @apiNote DocsGroup 문서와 분할 문서의 공통 영역
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private String renderPage(DocsGroupModel groupModel, String docPath, List<DocsModel> docsList,
+      String navigation) {
+    String description = groupModel.getDescription();
+    Function<String, String> resolver = groupResolver(groupModel, docPath);
+    StringBuilder html = new StringBuilder(pageCapacity(navigation)
+        + docsList.size() * DOCS_CAPACITY);
+
+    renderTop(html, description, navigation, resolver);
+
+    html.append("<h2>").append(escape(description)).append("</h2>").append(LINE_SEPARATOR);
+
+    for (DocsModel docsModel : docsList) {
+      renderDocs(html, groupModel.getPath(), docsModel);
+    }
+
+    renderBottom(html, resolver);
+
+    return html.toString();
+  }
+
+  private Function<String, String> groupResolver(DocsGroupModel groupModel, String docPath) {
+    return key -> switch (key) {
+      case "group.name" -> groupModel.getName();
+      case "group.description", "doc.title" -> groupModel.getDescription();
+      case "group.path" -> groupModel.getPath();
+      case "doc.path" -> docPath;
+      default -> null;
+    };
+  }
+
+  /**
+   * Docs 영역 작성
+   *
+   * @param html      출력 buffer
+   * @param groupPath DocsGroup include 경로
+   * @param docsModel the docs model
+   * @apiNote DocsRenderer 의 .fold [%collapsible] 블록과 같은 details 영역에 snippet 을 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private void renderDocs(StringBuilder html, String groupPath, DocsModel docsModel) {
+    String path = escape(docsModel.getPath());
+
+    html.append("<div class=\"sect2\"><h3 id=\"").append(path).append("\">")
+        .append("<a class=\"anchor\" href=\"#").append(path).append("\"></a>")
+        .append(escape(ofNullable(docsModel.getDescription()).orElse(docsModel.getPath())))
+        .append("</h3>").append(LINE_SEPARATOR)
+        .append("<details><summary class=\"title\">fold</summary>").append(LINE_SEPARATOR)
+        .append("<div class=\"content\">").append(LINE_SEPARATOR);
+
+    for (SnippetType snippetType : SnippetType.values()) {
+      if (!snippetSelector.select(groupPath, docsModel, snippetType)) {
+        continue;
+      }
+
+      if (!isNull(snippetType.getTitle())) {
+        html.append("<div class=\"paragraph\"><p>").append(escape(snippetType.getTitle()))
+            .append("</p></div>").append(LINE_SEPARATOR);
+      }
+
+      htmlConverter.convert(html, "include::" + SNIPPETS + groupPath + "/"
+          + docsModel.getPath() + "/" + snippetType.getFilename() + "[]");
+    }
+
+    html.append("</div></details></div>").append(LINE_SEPARATOR)
+        .append("<hr>").append(LINE_SEPARATOR);
+  }
+
+  /**
+   * 문서 상단 영역 작성
+   *
+   * @param html       출력 buffer
+   * @param title      문서 제목
+   * @param navigation 변환한 메뉴
+   * @param resolver   치환 영역 조회 함수
+   * @apiNote 문서 머리, 메뉴, default-top 템플릿, 제목 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private void renderTop(StringBuilder html, String title, String navigation,
+      Function<String, String> resolver) {
+    openDocument(html, title);
+
+    html.append("<nav id=\"toc\" class=\"toc\">").append(LINE_SEPARATOR)
+        .append(navigation)
+        .append("</nav>").append(LINE_SEPARATOR)
+        .append("<main id=\"content\">").append(LINE_SEPARATOR);
+
+    convertTemplate(html, templates.getDefaultTop(), resolver);
+
+    html.append("<h1>").append(escape(title)).append("</h1>").append(LINE_SEPARATOR);
+  }
+
+  private void renderBottom(StringBuilder html, Function<String, String> resolver) {
+    convertTemplate(html, templates.getDefaultBottom(), resolver);
+    closeDocument(html);
+  }
+
+  private void openDocument(StringBuilder html, String title) {
+    html.append("<!DOCTYPE html>").append(LINE_SEPARATOR)
+        .append("<html lang=\"ko\">").append(LINE_SEPARATOR)
+        .append("<head>").append(LINE_SEPARATOR)
+        .append("<meta charset=\"UTF-8\">").append(LINE_SEPARATOR)
+        .append("<meta name=\"viewport\" content=\"width=device-width, initial-scale=1.0\">")
+        .append(LINE_SEPARATOR)
+        .append("<title>").append(escape(title)).append("</title>").append(LINE_SEPARATOR)
+        .append("<link rel=\"stylesheet\" href=\"").append(STYLESHEET_FILENAME).append("\">")
+        .append(LINE_SEPARATOR)
+        .append("</head>").append(LINE_SEPARATOR)
+        .append("<body>").append(LINE_SEPARATOR);
+  }
+
+  private void closeDocument(StringBuilder html) {
+    html.append("</main>").append(LINE_SEPARATOR)
+        .append("</body>").append(LINE_SEPARATOR)
+        .append("</html>").append(LINE_SEPARATOR);
+  }
+
+  /**
+   * 템플릿 변환
+   *
+   * @param html     출력 buffer
+   * @param template the template
+   * @param resolver 치환 영역 조회 함수
+   * @apiNote 치환한 템플릿을 HtmlConverter 로 변환<br>
+   * 속성과 조건문은 Asciidoctor 설정이라 작성하지 않는다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private void convertTemplate(StringBuilder html, Template template,
+      Function<String, String> resolver) {
+    StringBuilder asciidoc = new StringBuilder(template.getLiteralLength() + 64);
+
+    template.render(asciidoc, resolver);
+    htmlConverter.convert(html, asciidoc.toString());
+  }
+
+  /**
+   * include 내용 조회
+   *
+   * @param target include 대상 경로
+   * @return 찾을 수 없다면 null
+   * @apiNote {snippets}/ 로 시작하는 경로만 Snippet Directory 에서 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:00:40
+   */
+  private String resolveInclude(String target) {
+    if (!target.startsWith(SNIPPETS) || isNull(snippetsPath)) {
+      return null;
+    }
+
+    Path path = snippetsPath.resolve(target.substring(SNIPPETS.length()));
+
+    if (!Files.isRegularFile(path)) {
+      return null;
+    }
+
+    try {
+      return Files.readString(path, UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private int pageCapacity(String navigation) {
+    return templates.getDefaultTop().getLiteralLength()
+        + templates.getDefaultBottom().getLiteralLength()
+        + (isNull(navigation) ? 0 : navigation.length()) + 512;
+  }
+
+}
@@ -0,0 +1,200 @@
+package run.freshr.renderer;
+
+import static java.util.Locale.ROOT;
+import static run.freshr.renderer.DocsRenderer.LINE_SEPARATOR;
+
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import run.freshr.enumeration.SnippetType;
+import run.freshr.model.DocsGroupModel;
+import run.freshr.model.DocsModel;
+
+/**
+ * Index Renderer.
+ *
+ * @author FreshR
+ * @apiNote Docs 식별자 조회 클래스 생성<br>
+ * Docs 마다 {class}/{method} 식별자 상수와 Docs Annotation 으로 선택한 snippet 목록을 작성해서<br>
+ * Test 가 실행 중에 이름을 변환하지 않고 필요한 snippet 만 생성하도록 한다.
+ * @since 2026. 10. 18. 오전 6:03:59
+ */
+public class IndexRenderer {
+
+  /**
+   * Docs 식별자 조회 클래스 기본 이름
+   *
+   * @apiNote restdocs.indexClass 옵션을 설정하지 않았을 때 사용
+   * @since 2026. 10. 18. 오전 6:03:59
+   */
+  public static final String DEFAULT_CLASS_NAME = "run.freshr.generated.DocsIndex";
+
+  /**
+   * Docs 식별자 조회
+   *
+   * @param groupModel the group model
+   * @param docsModel  the docs model
+   * @return the string
+   * @apiNote Spring REST Docs 가 snippet 을 생성하는 {class}/{method} 경로
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:03:59
+   */
+  public static String identifier(DocsGroupModel groupModel, DocsModel docsModel) {
+    return groupModel.getPath() + "/" + docsModel.getPath();
+  }
+
+  /**
+   * 상수 이름 조회
+   *
+   * @param identifier Docs 식별자
+   * @return the string
+   * @apiNote sample-controller-test/get-sample 은 SAMPLE_CONTROLLER_TEST__GET_SAMPLE
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:03:59
+   */
+  public static String constantName(String identifier) {
+    return identifier.toUpperCase(ROOT).replace("/", "__").replace('-', '_');
+  }
+
+  /**
+   * Docs 식별자 조회 클래스 생성
+   *
+   * @param className     생성할 클래스의 전체 이름
+   * @param groupMap      DocsGroup 클래스 Binary 이름별 DocsGroup
+   * @param methodNameMap DocsGroup 클래스 Binary 이름별 Docs 메서드 이름 목록<br>
+   *                      DocsGroup 의 Docs 목록과 같은 순서
+   * @return the string
+   * @apiNote DocsGroup 마다 별도 메서드에서 Map 을 채워서<br>
+   * Docs 가 많아도 static 초기화 메서드가 64KB 제한을 넘지 않도록 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:03:59
+   */
+  public String renderSource(String className, Map<String, DocsGroupModel> groupMap,
+      Map<String, List<String>> methodNameMap) {
+    int lastDot = className.lastIndexOf('.');
+    String packageName = lastDot < 0 ? "" : className.substring(0, lastDot);
+    String simpleName = className.substring(lastDot + 1);
+    int docsCount = groupMap.values().stream().mapToInt(group -> group.getDocsList().size()).sum();
+    StringBuilder stringBuilder = new StringBuilder(2048 + docsCount * 320);
+
+    if (!packageName.isEmpty()) {
+      stringBuilder.append("package ").append(packageName).append(";").append(LINE_SEPARATOR)
+          .append(LINE_SEPARATOR);
+    }
+
+    stringBuilder.append("import java.util.Collections;").append(LINE_SEPARATOR)
+        .append("import java.util.EnumSet;").append(LINE_SEPARATOR)
+        .append("import java.util.HashMap;").append(LINE_SEPARATOR)
+        .append("import java.util.Map;").append(LINE_SEPARATOR)
+        .append("import java.util.Set;").append(LINE_SEPARATOR)
+        .append("import javax.annotation.processing.Generated;").append(LINE_SEPARATOR)
+        .append("import run.freshr.enumeration.SnippetType;").append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR)
+        .append("/**").append(LINE_SEPARATOR)
+        .append(" * Docs 식별자와 snippet 목록 조회.").append(LINE_SEPARATOR)
+        .append(" *").append(LINE_SEPARATOR)
+        .append(" * @apiNote RestDocsProcessor 가 Docs Annotation 으로 생성한 클래스")
+        .append(LINE_SEPARATOR)
+        .append(" */").append(LINE_SEPARATOR)
+        .append("@Generated(\"run.freshr.processor.RestDocsProcessor\")").append(LINE_SEPARATOR)
+        .append("public final class ").append(simpleName).append(" {").append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR);
+
+    for (DocsGroupModel groupModel : groupMap.values()) {
+      for (DocsModel docsModel : groupModel.getDocsList()) {
+        String identifier = identifier(groupModel, docsModel);
+
+        stringBuilder.append("  public static final String ").append(constantName(identifier))
+            .append(" =").append(LINE_SEPARATOR)
+            .append("      \"").append(identifier).append("\";").append(LINE_SEPARATOR);
+      }
+    }
+
+    stringBuilder.append(LINE_SEPARATOR)
+        .append("  private static final Map<String, String> IDENTIFIERS = new HashMap<>(")
+        .append(docsCount * 2).append(");").append(LINE_SEPARATOR)
+        .append("  private static final Map<String, Set<SnippetType>> SNIPPETS = new HashMap<>(")
+        .append(docsCount * 2).append(");").append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR)
+        .append("  static {").append(LINE_SEPARATOR);
+
+    for (int i = 0; i < groupMap.size(); i++) {
+      stringBuilder.append("    group").append(i).append("();").append(LINE_SEPARATOR);
+    }
+
+    stringBuilder.append("  }").append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR)
+        .append("  private ").append(simpleName).append("() {").append(LINE_SEPARATOR)
+        .append("  }").append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR)
+        .append("  public static String identifier(Class<?> testClass, String methodName) {")
+        .append(LINE_SEPARATOR)
+        .append("    return IDENTIFIERS.get(testClass.getName() + \"#\" + methodName);")
+        .append(LINE_SEPARATOR)
+        .append("  }").append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR)
+        .append("  public static Set<SnippetType> snippets(String identifier) {")
+        .append(LINE_SEPARATOR)
+        .append("    return SNIPPETS.getOrDefault(identifier, Collections.emptySet());")
+        .append(LINE_SEPARATOR)
+        .append("  }").append(LINE_SEPARATOR);
+
+    int index = 0;
+
+    for (Map.Entry<String, DocsGroupModel> entry : groupMap.entrySet()) {
+      List<DocsModel> docsList = entry.getValue().getDocsList();
+      List<String> methodNameList = methodNameMap.get(entry.getKey());
+
+      stringBuilder.append(LINE_SEPARATOR)
+          .append("  private static void group").append(index++).append("() {")
+          .append(LINE_SEPARATOR);
+
+      for (int i = 0; i < docsList.size(); i++) {
+        stringBuilder.append("    put(\"").append(entry.getKey()).append("\", \"")
+            .append(methodNameList.get(i)).append("\", ")
+            .append(constantName(identifier(entry.getValue(), docsList.get(i)))).append(",")
+            .append(LINE_SEPARATOR)
+            .append("        ").append(snippetSet(docsList.get(i))).append(");")
+            .append(LINE_SEPARATOR);
+      }
+
+      stringBuilder.append("  }").append(LINE_SEPARATOR);
+    }
+
+    stringBuilder.append(LINE_SEPARATOR)
+        .append("  private static void put(String className, String methodName, String identifier,")
+        .append(LINE_SEPARATOR)
+        .append("      Set<SnippetType> snippets) {").append(LINE_SEPARATOR)
+        .append("    IDENTIFIERS.put(className + \"#\" + methodName, identifier);")
+        .append(LINE_SEPARATOR)
+        .append("    SNIPPETS.put(identifier, Collections.unmodifiableSet(snippets));")
+        .append(LINE_SEPARATOR)
+        .append("  }").append(LINE_SEPARATOR)
+        .append(LINE_SEPARATOR)
+        .append("}").append(LINE_SEPARATOR);
+
+    return stringBuilder.toString();
+  }
+
+  /**
+   * Snippet 목록 작성
+   *
+   * @param docsModel the docs model
+   * @return the string
+   * @apiNote exists* 값이 true 인 snippet 과 항상 생성하는 HTTP, Curl snippet
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:03:59
+   */
+  private String snippetSet(DocsModel docsModel) {
+    StringJoiner stringJoiner = new StringJoiner(", ", "EnumSet.of(", ")");
+
+    for (SnippetType snippetType : SnippetType.values()) {
+      if (snippetType.isFlagged(docsModel)) {
+        stringJoiner.add("SnippetType." + snippetType.name());
+      }
+    }
+
+    return stringJoiner.toString();
+  }
+
+}
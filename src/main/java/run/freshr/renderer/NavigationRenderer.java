@@ -0,0 +1,144 @@
+package run.freshr.renderer;
+
+import static run.freshr.renderer.DocsRenderer.LINE_SEPARATOR;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import run.freshr.model.DocsGroupModel;
+
+/**
+ * Navigation Renderer.
+ *
+ * @author FreshR
+ * @apiNote 메뉴 문서 생성<br>
+ * 메뉴는 _nav.adoc 한 파일로 생성하고 각 문서에서 include 하기 때문에<br>
+ * 문서 크기가 DocsGroup 개수에 비례해서 늘어난다.
+ * @since 2026. 10. 18. 오전 5:07:56
+ */
+public class NavigationRenderer {
+
+  /**
+   * 메뉴 파일 이름
+   *
+   * @apiNote _ 로 시작하는 파일은 Asciidoctor 가 별도 문서로 변환하지 않는다.
+   * @since 2026. 10. 18. 오전 5:07:56
+   */
+  public static final String FILENAME = "_nav.adoc";
+  /**
+   * 메뉴 include 구문
+   *
+   * @apiNote 각 문서에 작성할 include 구문
+   * @since 2026. 10. 18. 오전 5:07:56
+   */
+  public static final String INCLUDE = "include::" + FILENAME + "[]";
+
+  /**
+   * 계층 메뉴 사용 여부
+   *
+   * @apiNote true 라면 이름의 첫 번째 - 앞부분이 같은 DocsGroup 을 묶어서 메뉴를 생성
+   * @since 2026. 10. 18. 오전 5:07:56
+   */
+  private final boolean hierarchical;
+  /**
+   * 검색 사용 여부
+   *
+   * @apiNote true 라면 메뉴 위에 검색 입력 영역과 검색 스크립트를 작성
+   * @since 2026. 10. 18. 오전 5:40:19
+   */
+  private final boolean search;
+
+  public NavigationRenderer(boolean hierarchical) {
+    this(hierarchical, false);
+  }
+
+  public NavigationRenderer(boolean hierarchical, boolean search) {
+    this.hierarchical = hierarchical;
+    this.search = search;
+  }
+
+  /**
+   * 메뉴 생성
+   *
+   * @param docsGroupList DocsGroup 목록
+   * @return the string
+   * @apiNote 메뉴 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:07:56
+   */
+  public String render(List<DocsGroupModel> docsGroupList) {
+    StringBuilder navBuilder = new StringBuilder();
+
+    navBuilder.append("== 메뉴").append(LINE_SEPARATOR);
+
+    if (search) {
+      navBuilder.append("++++").append(LINE_SEPARATOR)
+          .append("<input id=\"restdocs-search\" type=\"search\" placeholder=\"Search\">")
+          .append(LINE_SEPARATOR)
+          .append("<ul id=\"restdocs-search-results\"></ul>").append(LINE_SEPARATOR)
+          .append("<script src=\"").append(SearchIndexRenderer.INDEX_FILENAME)
+          .append("\"></script>").append(LINE_SEPARATOR)
+          .append("<script src=\"").append(SearchIndexRenderer.SCRIPT_FILENAME)
+          .append("\"></script>").append(LINE_SEPARATOR)
+          .append("++++").append(LINE_SEPARATOR);
+    }
+
+    navBuilder.append("=== link:index[Home]").append(LINE_SEPARATOR);
+
+    if (!hierarchical) {
+      for (DocsGroupModel groupModel : docsGroupList) {
+        navBuilder.append("=== ");
+
+        appendLink(navBuilder, groupModel);
+      }
+
+      return navBuilder.toString();
+    }
+
+    // 이름의 prefix 로 묶고 처음 등장한 순서를 유지
+    Map<String, List<DocsGroupModel>> prefixMap = new LinkedHashMap<>();
+
+    for (DocsGroupModel groupModel : docsGroupList) {
+      prefixMap.computeIfAbsent(prefix(groupModel.getName()), key -> new ArrayList<>())
+          .add(groupModel);
+    }
+
+    prefixMap.forEach((prefix, groupList) -> {
+      // 묶을 대상이 없다면 일반 메뉴로 생성
+      if (groupList.size() == 1) {
+        navBuilder.append("=== ");
+
+        appendLink(navBuilder, groupList.get(0));
+
+        return;
+      }
+
+      navBuilder.append("=== ").append(prefix).append(LINE_SEPARATOR);
+
+      for (DocsGroupModel groupModel : groupList) {
+        navBuilder.append("* ");
+
+        appendLink(navBuilder, groupModel);
+      }
+
+      navBuilder.append(LINE_SEPARATOR);
+    });
+
+    return navBuilder.toString();
+  }
+
+  private void appendLink(StringBuilder navBuilder, DocsGroupModel groupModel) {
+    navBuilder.append("link:")
+        .append(groupModel.getName())
+        .append("[").append(groupModel.getDescription()).append("]")
+        .append(LINE_SEPARATOR);
+  }
+
+  private String prefix(String name) {
+    int index = name.indexOf('-');
+
+    return index > 0 ? name.substring(0, index) : name;
+  }
+
+}
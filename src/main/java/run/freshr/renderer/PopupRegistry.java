@@ -0,0 +1,124 @@
+package run.freshr.renderer;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import run.freshr.model.DocsGroupModel;
+import run.freshr.model.DocsModel;
+import run.freshr.model.DocsPopupModel;
+
+/**
+ * Popup Registry.
+ *
+ * @author FreshR
+ * @apiNote 모든 Docs 의 팝업을 이름으로 모아서 팝업 문서를 한 번씩만 생성<br>
+ * 문서에서 link:popup-{이름} 으로 연결하기 때문에 팝업 문서는 이름마다 하나씩 생성하고<br>
+ * 이름이 같은데 include 경로가 다른 팝업은 충돌로 처리
+ * @since 2026. 10. 18. 오전 5:42:39
+ */
+public class PopupRegistry {
+
+  /**
+   * 등록 결과
+   *
+   * @author FreshR
+   * @apiNote 등록 결과
+   * @since 2026. 10. 18. 오전 5:42:39
+   */
+  public enum Registration {
+
+    /**
+     * 처음 등록한 팝업
+     */
+    ADDED,
+    /**
+     * 이름과 include 경로가 같은 팝업이 이미 등록됨
+     */
+    DUPLICATE,
+    /**
+     * 이름이 없음
+     */
+    MISSING_NAME,
+    /**
+     * include 경로가 없음
+     */
+    MISSING_INCLUDE,
+    /**
+     * 이름이 같고 include 경로가 다른 팝업이 이미 등록됨
+     */
+    CONFLICT
+
+  }
+
+  /**
+   * 팝업 목록
+   *
+   * @apiNote 이름 별 처음 등록한 팝업<br>
+   * DocsGroup 을 읽은 순서와 관계 없이 같은 순서로 생성하도록 이름 순서로 정렬
+   * @since 2026. 10. 18. 오전 5:42:39
+   */
+  private final Map<String, DocsPopupModel> popupMap = new TreeMap<>();
+
+  /**
+   * 팝업 목록 등록
+   *
+   * @param docsGroupList DocsGroup 목록
+   * @return the popup registry
+   * @apiNote 잘못된 팝업과 충돌한 팝업은 등록하지 않는다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:42:39
+   */
+  public static PopupRegistry of(List<DocsGroupModel> docsGroupList) {
+    PopupRegistry popupRegistry = new PopupRegistry();
+
+    for (DocsGroupModel groupModel : docsGroupList) {
+      for (DocsModel docsModel : groupModel.getDocsList()) {
+        for (DocsPopupModel popup : docsModel.getPopupList()) {
+          popupRegistry.register(popup);
+        }
+      }
+    }
+
+    return popupRegistry;
+  }
+
+  /**
+   * 팝업 등록
+   *
+   * @param popup the popup
+   * @return the registration
+   * @apiNote ADDED 일 때만 팝업 문서를 생성할 대상에 추가
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:42:39
+   */
+  public Registration register(DocsPopupModel popup) {
+    if (isNull(popup.getName()) || popup.getName().isEmpty()) {
+      return Registration.MISSING_NAME;
+    }
+
+    if (isNull(popup.getInclude()) || popup.getInclude().isEmpty()) {
+      return Registration.MISSING_INCLUDE;
+    }
+
+    DocsPopupModel registered = popupMap.putIfAbsent(popup.getName(), popup);
+
+    if (isNull(registered)) {
+      return Registration.ADDED;
+    }
+
+    return registered.getInclude().equals(popup.getInclude()) ? Registration.DUPLICATE
+        : Registration.CONFLICT;
+  }
+
+  public DocsPopupModel get(String name) {
+    return popupMap.get(name);
+  }
+
+  public List<DocsPopupModel> getPopupList() {
+    return new ArrayList<>(popupMap.values());
+  }
+
+}
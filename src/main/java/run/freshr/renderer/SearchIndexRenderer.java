@@ -0,0 +1,215 @@
+package run.freshr.renderer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.Optional.ofNullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+import run.freshr.catalog.JsonWriter;
+import run.freshr.model.DocsGroupModel;
+import run.freshr.model.DocsModel;
+
+/**
+ * Search Index Renderer.
+ *
+ * @author FreshR
+ * @apiNote DocsGroup 과 Docs 의 이름, 설명, 경로로 검색 색인을 미리 생성<br>
+ * 색인은 정렬한 단어 목록과 단어별 문서 번호 목록으로 작성하고<br>
+ * search.js 가 단어 목록을 이진 탐색해서 입력한 단어로 시작하는 문서를 찾는다.<br>
+ * file:// 로 열어도 동작하도록 JSON 을 변수에 할당하는 스크립트로 생성
+ * @since 2026. 10. 18. 오전 5:40:19
+ */
+public class SearchIndexRenderer {
+
+  /**
+   * 검색 색인 파일 이름
+   *
+   * @apiNote 검색 색인 파일 이름
+   * @since 2026. 10. 18. 오전 5:40:19
+   */
+  public static final String INDEX_FILENAME = "search-index.js";
+  /**
+   * 검색 스크립트 파일 이름
+   *
+   * @apiNote 모듈에 포함된 검색 스크립트 파일 이름
+   * @since 2026. 10. 18. 오전 5:40:19
+   */
+  public static final String SCRIPT_FILENAME = "search.js";
+
+  /**
+   * 검색 스크립트
+   *
+   * @apiNote 모듈에 포함된 파일은 변경되지 않기 때문에 ClassLoader 마다 한 번만 읽는다.
+   * @since 2026. 10. 18. 오전 5:40:19
+   */
+  private static volatile String script;
+
+  /**
+   * 검색 색인 생성
+   *
+   * @param docsGroupList DocsGroup 목록
+   * @param pageResolver  DocsGroup 과 Docs 순서로 Docs 가 작성된 문서 경로를 조회하는 함수
+   * @return the string
+   * @apiNote 검색 색인 생성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:40:19
+   */
+  public String render(List<DocsGroupModel> docsGroupList,
+      BiFunction<DocsGroupModel, Integer, String> pageResolver) {
+    List<String[]> entryList = new ArrayList<>();
+    Map<String, TreeSet<Integer>> tokenMap = new TreeMap<>();
+
+    for (DocsGroupModel groupModel : docsGroupList) {
+      String groupPage = ofNullable(groupModel.getName()).orElse(groupModel.getPath());
+
+      addEntry(entryList, tokenMap, groupPage, groupModel.getDescription(), "",
+          groupModel.getName(), groupModel.getDescription());
+
+      for (int i = 0; i < groupModel.getDocsList().size(); i++) {
+        DocsModel docsModel = groupModel.getDocsList().get(i);
+
+        addEntry(entryList, tokenMap, pageResolver.apply(groupModel, i) + "#" + docsModel.getPath(),
+            ofNullable(docsModel.getDescription()).orElse(docsModel.getPath()),
+            groupModel.getDescription(), docsModel.getPath(), docsModel.getDescription());
+      }
+    }
+
+    StringBuilder stringBuilder = new StringBuilder(entryList.size() * 96
+        + tokenMap.size() * 24 + 64);
+    JsonWriter jsonWriter = new JsonWriter(stringBuilder);
+
+    stringBuilder.append("window.RESTDOCS_SEARCH_INDEX = ");
+
+    try {
+      jsonWriter.beginObject().name("docs").beginArray();
+
+      for (String[] entry : entryList) {
+        jsonWriter.beginArray();
+
+        for (String value : entry) {
+          jsonWriter.value(value);
+        }
+
+        jsonWriter.endArray();
+      }
+
+      jsonWriter.endArray().name("keys").beginArray();
+
+      for (String token : tokenMap.keySet()) {
+        jsonWriter.value(token);
+      }
+
+      jsonWriter.endArray().name("postings").beginArray();
+
+      for (TreeSet<Integer> idSet : tokenMap.values()) {
+        jsonWriter.beginArray();
+
+        for (Integer id : idSet) {
+          jsonWriter.value(id);
+        }
+
+        jsonWriter.endArray();
+      }
+
+      jsonWriter.endArray().endObject();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return stringBuilder.append(";\n").toString();
+  }
+
+  /**
+   * 검색 스크립트 조회
+   *
+   * @return the string
+   * @apiNote 모듈에 포함된 search.js 조회
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:40:19
+   */
+  public String renderScript() {
+    if (isNull(script)) {
+      try (InputStream inputStream = SearchIndexRenderer.class
+          .getResourceAsStream("/restdocs/" + SCRIPT_FILENAME)) {
+        if (isNull(inputStream)) {
+          throw new IOException("Not found " + SCRIPT_FILENAME);
+        }
+
+        script = new String(inputStream.readAllBytes(), UTF_8);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    return script;
+  }
+
+  /**
+   * 검색 대상 추가
+   *
+   * @param entryList 검색 대상 목록
+   * @param tokenMap  단어별 검색 대상 번호 목록
+   * @param link      문서 경로
+   * @param title     검색 결과에 표시할 제목
+   * @param group     검색 결과에 표시할 DocsGroup 설명
+   * @param texts     단어로 나눌 문자열 목록
+   * @apiNote 검색 대상 추가
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:40:19
+   */
+  private void addEntry(List<String[]> entryList, Map<String, TreeSet<Integer>> tokenMap,
+      String link, String title, String group, String... texts) {
+    int id = entryList.size();
+
+    entryList.add(new String[]{link, title, group});
+
+    for (String text : texts) {
+      for (String token : tokenize(text)) {
+        tokenMap.computeIfAbsent(token, key -> new TreeSet<>()).add(id);
+      }
+    }
+  }
+
+  /**
+   * 단어 분리
+   *
+   * @param text the text
+   * @return the list
+   * @apiNote 문자와 숫자가 아닌 문자로 나누고 소문자로 변환<br>
+   * search.js 의 tokenize 와 같은 방법
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:40:19
+   */
+  static List<String> tokenize(String text) {
+    List<String> tokenList = new ArrayList<>();
+
+    if (isNull(text)) {
+      return tokenList;
+    }
+
+    int start = -1;
+
+    for (int i = 0; i <= text.length(); i++) {
+      boolean word = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+
+      if (word && start < 0) {
+        start = i;
+      } else if (!word && start >= 0) {
+        tokenList.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+        start = -1;
+      }
+    }
+
+    return tokenList;
+  }
+
+}
@@ -0,0 +1,37 @@
+package run.freshr.renderer;
+
+import run.freshr.enumeration.SnippetType;
+import run.freshr.model.DocsModel;
+
+/**
+ * Snippet Inliner.
+ *
+ * @author FreshR
+ * @apiNote include 대신 문서에 직접 작성할 snippet 내용을 조회하는 방법 정의
+ * @since 2026. 10. 18. 오전 5:20:17
+ */
+@FunctionalInterface
+public interface SnippetInliner {
+
+  /**
+   * 직접 작성하지 않음
+   *
+   * @apiNote 모든 snippet 을 include 로 작성
+   * @since 2026. 10. 18. 오전 5:20:17
+   */
+  SnippetInliner NONE = (groupPath, docsModel, snippetType) -> null;
+
+  /**
+   * Snippet 내용 조회
+   *
+   * @param groupPath   DocsGroup include 경로
+   * @param docsModel   the docs model
+   * @param snippetType the snippet type
+   * @return the string
+   * @apiNote include 로 작성해야 한다면 null
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:20:17
+   */
+  String inline(String groupPath, DocsModel docsModel, SnippetType snippetType);
+
+}
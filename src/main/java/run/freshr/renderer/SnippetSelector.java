@@ -0,0 +1,37 @@
+package run.freshr.renderer;
+
+import run.freshr.enumeration.SnippetType;
+import run.freshr.model.DocsModel;
+
+/**
+ * Snippet Selector.
+ *
+ * @author FreshR
+ * @apiNote 문서에 include 할 snippet 을 선택하는 방법 정의
+ * @since 2026. 10. 18. 오전 5:19:14
+ */
+@FunctionalInterface
+public interface SnippetSelector {
+
+  /**
+   * Docs Annotation 기준 선택
+   *
+   * @apiNote Docs Annotation 의 exists* 값으로 선택
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  SnippetSelector FLAGS = (groupPath, docsModel, snippetType) -> snippetType.isFlagged(docsModel);
+
+  /**
+   * Snippet 선택 여부
+   *
+   * @param groupPath   DocsGroup include 경로
+   * @param docsModel   the docs model
+   * @param snippetType the snippet type
+   * @return the boolean
+   * @apiNote 문서에 include 할 snippet 이라면 true
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:19:14
+   */
+  boolean select(String groupPath, DocsModel docsModel, SnippetType snippetType);
+
+}
@@ -0,0 +1,53 @@
+package run.freshr.template;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Docs 템플릿 목록.
+ *
+ * @author FreshR
+ * @apiNote src/main/resources/asciidocs 의 템플릿을 분석해서 저장
+ * @since 2026. 10. 18. 오전 5:09:05
+ */
+@Data
+@Builder
+public class DocsTemplates {
+
+  /**
+   * index 템플릿
+   *
+   * @apiNote index.adoc
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  private Template index;
+  /**
+   * 문서 상단 템플릿
+   *
+   * @apiNote default-top.adoc
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  private Template defaultTop;
+  /**
+   * 문서 하단 템플릿
+   *
+   * @apiNote default-bottom.adoc
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  private Template defaultBottom;
+  /**
+   * 팝업 상단 템플릿
+   *
+   * @apiNote popup-top.adoc
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  private Template popupTop;
+  /**
+   * 팝업 하단 템플릿
+   *
+   * @apiNote popup-bottom.adoc
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  private Template popupBottom;
+
+}
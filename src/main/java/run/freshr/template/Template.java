@@ -0,0 +1,162 @@
+package run.freshr.template;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Template.
+ *
+ * @author FreshR
+ * @apiNote 한 번만 분석해서 문자열과 치환 영역으로 나눠둔 문서 템플릿<br>
+ * {group.name} 처럼 . 을 포함한 이름만 치환 영역으로 인식하고<br>
+ * {snippets} 같은 AsciiDoc 속성은 그대로 유지
+ * @since 2026. 10. 18. 오전 5:09:05
+ */
+public class Template {
+
+  /**
+   * 치환 영역 이름 형식
+   *
+   * @apiNote AsciiDoc 속성 이름에는 . 을 사용할 수 없기 때문에 구분이 가능
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  private static final Pattern KEY_PATTERN = Pattern.compile("[a-zA-Z]+(\\.[a-zA-Z]+)+");
+
+  /**
+   * 분석한 영역 목록
+   *
+   * @apiNote 문자열과 치환 영역 순서대로 저장
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  private final List<Segment> segmentList;
+  /**
+   * 문자열 길이
+   *
+   * @apiNote 치환 영역을 제외한 문자열 길이<br>
+   * 출력 buffer 크기를 미리 계산할 때 사용
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  private final int literalLength;
+
+  private Template(List<Segment> segmentList) {
+    this.segmentList = segmentList;
+    this.literalLength = segmentList.stream()
+        .filter(segment -> !segment.placeholder)
+        .mapToInt(segment -> segment.text.length())
+        .sum();
+  }
+
+  /**
+   * 템플릿 분석
+   *
+   * @param template 템플릿 내용
+   * @return the template
+   * @apiNote 템플릿 내용을 문자열과 치환 영역으로 분리<br>
+   * 템플릿 파일의 줄바꿈과 관계 없이 같은 문서가 생성되도록 \r\n 은 \n 으로 변환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  public static Template parse(String template) {
+    String source = template.replace("\r\n", "\n");
+    List<Segment> segmentList = new ArrayList<>();
+    int literalStart = 0;
+    int index = source.indexOf('{');
+
+    while (index >= 0) {
+      int end = source.indexOf('}', index + 1);
+
+      if (end < 0) {
+        break;
+      }
+
+      String key = source.substring(index + 1, end);
+
+      if (KEY_PATTERN.matcher(key).matches()) {
+        if (index > literalStart) {
+          segmentList.add(new Segment(source.substring(literalStart, index), false));
+        }
+
+        segmentList.add(new Segment(key, true));
+
+        literalStart = end + 1;
+        index = source.indexOf('{', literalStart);
+      } else {
+        index = source.indexOf('{', index + 1);
+      }
+    }
+
+    if (literalStart < source.length()) {
+      segmentList.add(new Segment(source.substring(literalStart), false));
+    }
+
+    return new Template(segmentList);
+  }
+
+  public int getLiteralLength() {
+    return literalLength;
+  }
+
+  /**
+   * 템플릿 출력
+   *
+   * @param output   출력 buffer
+   * @param resolver 치환 영역 이름으로 값을 조회하는 함수
+   * @apiNote 문자열과 치환한 값을 output 에 바로 작성<br>
+   * 값이 없는 치환 영역은 {이름} 그대로 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  public void render(StringBuilder output, Function<String, String> resolver) {
+    for (Segment segment : segmentList) {
+      if (!segment.placeholder) {
+        output.append(segment.text);
+
+        continue;
+      }
+
+      String value = resolver.apply(segment.text);
+
+      if (isNull(value)) {
+        output.append('{').append(segment.text).append('}');
+      } else {
+        output.append(value);
+      }
+    }
+  }
+
+  /**
+   * 템플릿 영역
+   *
+   * @author FreshR
+   * @apiNote 문자열 또는 치환 영역
+   * @since 2026. 10. 18. 오전 5:09:05
+   */
+  private static final class Segment {
+
+    /**
+     * 내용
+     *
+     * @apiNote 문자열 또는 치환 영역 이름
+     * @since 2026. 10. 18. 오전 5:09:05
+     */
+    private final String text;
+    /**
+     * 치환 영역 여부
+     *
+     * @apiNote 치환 영역 여부
+     * @since 2026. 10. 18. 오전 5:09:05
+     */
+    private final boolean placeholder;
+
+    private Segment(String text, boolean placeholder) {
+      this.text = text;
+      this.placeholder = placeholder;
+    }
+
+  }
+
+}
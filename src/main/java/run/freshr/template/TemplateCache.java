@@ -0,0 +1,173 @@
+package run.freshr.template;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Template Cache.
+ *
+ * @author FreshR
+ * @apiNote 분석한 템플릿을 static 영역에 저장해서<br>
+ * 같은 Gradle Daemon 에서 실행하는 Round, 빌드, 모듈이 함께 사용<br>
+ * 프로젝트 템플릿은 경로, 크기, 수정 시간이 같다면 다시 읽지 않고<br>
+ * 모듈에 포함된 기본 템플릿은 ClassLoader 마다 한 번만 읽는다.
+ * @since 2026. 10. 18. 오전 5:09:40
+ */
+public final class TemplateCache {
+
+  /**
+   * 템플릿 Directory 기준 템플릿 경로
+   *
+   * @apiNote 모듈에 포함된 기본 템플릿도 같은 이름으로 asciidocs 에 위치
+   * @since 2026. 10. 18. 오전 5:09:40
+   */
+  public static final String INDEX = "index.adoc";
+  public static final String DEFAULT_TOP = "default-top.adoc";
+  public static final String DEFAULT_BOTTOM = "default-bottom.adoc";
+  public static final String POPUP_TOP = "popup-top.adoc";
+  public static final String POPUP_BOTTOM = "popup-bottom.adoc";
+
+  /**
+   * 프로젝트 템플릿 목록
+   *
+   * @apiNote 템플릿 파일 경로별 분석 결과
+   * @since 2026. 10. 18. 오전 5:09:40
+   */
+  private static final Map<Path, CachedTemplate> FILE_CACHE = new ConcurrentHashMap<>();
+  /**
+   * 기본 템플릿 목록
+   *
+   * @apiNote 모듈에 포함된 템플릿 이름별 분석 결과
+   * @since 2026. 10. 18. 오전 5:09:40
+   */
+  private static final Map<String, Template> BUNDLED_CACHE = new ConcurrentHashMap<>();
+
+  private TemplateCache() {
+  }
+
+  /**
+   * 템플릿 목록 조회
+   *
+   * @param directory 프로젝트 템플릿 Directory
+   * @return the docs templates
+   * @throws IOException the io exception
+   * @apiNote 프로젝트에 템플릿이 없다면 모듈에 포함된 템플릿으로 대체
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:09:40
+   */
+  public static DocsTemplates load(Path directory) throws IOException {
+    return DocsTemplates.builder()
+        .index(load(directory, INDEX))
+        .defaultTop(load(directory, DEFAULT_TOP))
+        .defaultBottom(load(directory, DEFAULT_BOTTOM))
+        .popupTop(load(directory, POPUP_TOP))
+        .popupBottom(load(directory, POPUP_BOTTOM))
+        .build();
+  }
+
+  /**
+   * 템플릿 조회
+   *
+   * @param directory 프로젝트 템플릿 Directory
+   * @param filename  템플릿 파일 이름
+   * @return the template
+   * @throws IOException the io exception
+   * @apiNote 파일의 크기와 수정 시간이 저장된 정보와 같다면 다시 읽지 않는다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:09:40
+   */
+  public static Template load(Path directory, String filename) throws IOException {
+    Path path = directory.resolve(filename).toAbsolutePath().normalize();
+    BasicFileAttributes attributes;
+
+    try {
+      attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    } catch (NoSuchFileException e) {
+      FILE_CACHE.remove(path);
+
+      return loadBundled(filename);
+    }
+
+    CachedTemplate cached = FILE_CACHE.get(path);
+
+    if (!isNull(cached) && cached.matches(attributes)) {
+      return cached.template;
+    }
+
+    Template template = Template.parse(Files.readString(path, UTF_8));
+
+    FILE_CACHE.put(path, new CachedTemplate(attributes.size(), attributes.lastModifiedTime(),
+        template));
+
+    return template;
+  }
+
+  /**
+   * 기본 템플릿 조회
+   *
+   * @param filename 템플릿 파일 이름
+   * @return the template
+   * @throws IOException the io exception
+   * @apiNote 모듈에 포함된 템플릿은 변경되지 않기 때문에 ClassLoader 마다 한 번만 읽는다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:09:40
+   */
+  public static Template loadBundled(String filename) throws IOException {
+    try {
+      return BUNDLED_CACHE.computeIfAbsent(filename, key -> {
+        String resource = "asciidocs/" + key;
+
+        try (InputStream stream = TemplateCache.class.getClassLoader()
+            .getResourceAsStream(resource)) {
+          if (isNull(stream)) {
+            throw new FileNotFoundException(resource);
+          }
+
+          return Template.parse(new String(stream.readAllBytes(), UTF_8));
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * 저장된 템플릿
+   *
+   * @author FreshR
+   * @apiNote 분석한 템플릿과 파일 정보
+   * @since 2026. 10. 18. 오전 5:09:40
+   */
+  private static final class CachedTemplate {
+
+    private final long size;
+    private final FileTime lastModifiedTime;
+    private final Template template;
+
+    private CachedTemplate(long size, FileTime lastModifiedTime, Template template) {
+      this.size = size;
+      this.lastModifiedTime = lastModifiedTime;
+      this.template = template;
+    }
+
+    private boolean matches(BasicFileAttributes attributes) {
+      return size == attributes.size() && lastModifiedTime.equals(attributes.lastModifiedTime());
+    }
+
+  }
+
+}
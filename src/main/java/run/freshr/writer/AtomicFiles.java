@@ -0,0 +1,56 @@
+package run.freshr.writer;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * Atomic Files.
+ *
+ * @author FreshR
+ * @apiNote 임시 파일에 먼저 작성한 뒤 rename 으로 교체하는 파일 작성 도구<br>
+ * 작성 중인 파일을 Asciidoctor 등 다른 작업이 읽는 일이 없도록 한다.
+ * @since 2026. 10. 18. 오전 5:00:27
+ */
+public final class AtomicFiles {
+
+  private AtomicFiles() {
+  }
+
+  /**
+   * 파일 작성
+   *
+   * @param target 작성할 파일 경로
+   * @param bytes  파일 내용
+   * @throws IOException the io exception
+   * @apiNote 같은 Directory 에 임시 파일을 작성한 뒤 대상 파일로 rename<br>
+   * 파일 시스템이 atomic rename 을 지원하지 않으면 일반 rename 으로 대체
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:00:27
+   */
+  public static void write(Path target, byte[] bytes) throws IOException {
+    // createTempFile 은 권한을 소유자로 제한하기 때문에 기본 권한으로 직접 생성
+    Path temp = target
+        .resolveSibling("." + target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+
+    try {
+      Files.write(temp, bytes, CREATE_NEW, WRITE);
+
+      try {
+        Files.move(temp, target, ATOMIC_MOVE, REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, target, REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+}
@@ -0,0 +1,117 @@
+package run.freshr.writer;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.isNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Docs Lock.
+ *
+ * @author FreshR
+ * @apiNote 문서 Directory 의 .restdocs.lock 파일로 문서 저장을 한 번에 하나씩 처리<br>
+ * 여러 모듈의 Compile 작업이 동시에 같은 Directory 에 문서를 생성해도<br>
+ * Manifest 를 읽고 문서와 Manifest 를 저장하는 과정이 섞이지 않도록 한다.<br>
+ * FileLock 은 JVM 단위로 획득하기 때문에<br>
+ * 같은 Gradle Daemon 안의 작업은 Directory 별 Semaphore 로 먼저 순서를 정한다.
+ * @since 2026. 10. 18. 오전 6:09:20
+ */
+public final class DocsLock implements Closeable {
+
+  /**
+   * Lock 파일 이름
+   *
+   * @apiNote Lock 파일 이름
+   * @since 2026. 10. 18. 오전 6:09:20
+   */
+  public static final String FILENAME = ".restdocs.lock";
+
+  /**
+   * Directory 별 Semaphore
+   *
+   * @apiNote 같은 JVM 안에서 FileLock 을 중복으로 요청하지 않도록 먼저 획득<br>
+   * 저장 Thread 와 획득한 Thread 가 다를 수 있어서 ReentrantLock 대신 Semaphore 사용
+   * @since 2026. 10. 18. 오전 6:09:20
+   */
+  private static final Map<Path, Semaphore> SEMAPHORE_MAP = new ConcurrentHashMap<>();
+
+  private final Semaphore semaphore;
+  private final FileChannel channel;
+  private final FileLock fileLock;
+
+  private DocsLock(Semaphore semaphore, FileChannel channel, FileLock fileLock) {
+    this.semaphore = semaphore;
+    this.channel = channel;
+    this.fileLock = fileLock;
+  }
+
+  /**
+   * Lock 획득
+   *
+   * @param directory 문서 Directory
+   * @return the docs lock
+   * @throws IOException the io exception
+   * @apiNote 다른 작업이 Lock 을 반환할 때까지 대기
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:09:20
+   */
+  public static DocsLock acquire(Path directory) throws IOException {
+    Semaphore semaphore = SEMAPHORE_MAP.computeIfAbsent(directory.toAbsolutePath().normalize(),
+        key -> new Semaphore(1));
+
+    try {
+      semaphore.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+
+      throw new InterruptedIOException("interrupted while waiting for " + directory);
+    }
+
+    FileChannel channel = null;
+
+    try {
+      channel = FileChannel.open(directory.resolve(FILENAME), CREATE, WRITE);
+
+      return new DocsLock(semaphore, channel, channel.lock());
+    } catch (IOException | RuntimeException e) {
+      if (!isNull(channel)) {
+        channel.close();
+      }
+
+      semaphore.release();
+
+      throw e;
+    }
+  }
+
+  /**
+   * Lock 반환
+   *
+   * @throws IOException the io exception
+   * @apiNote Lock 파일은 삭제하지 않고 다음 작업에서 다시 사용
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:09:20
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      fileLock.release();
+    } finally {
+      try {
+        channel.close();
+      } finally {
+        semaphore.release();
+      }
+    }
+  }
+
+}
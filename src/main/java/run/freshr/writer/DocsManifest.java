@@ -0,0 +1,258 @@
+package run.freshr.writer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Docs Manifest.
+ *
+ * @author FreshR
+ * @apiNote 생성한 문서의 내용 hash 목록<br>
+ * 문서 Directory 의 .restdocs-manifest 파일에 sha256sum 형식으로 저장하고<br>
+ * 내용이 변경된 문서만 다시 작성하도록 비교할 때 사용<br>
+ * 작성한 모듈을 알 수 있다면 hash 와 파일 이름 사이에 소유 모듈을 함께 저장
+ * @since 2026. 10. 18. 오전 5:00:27
+ */
+public class DocsManifest {
+
+  /**
+   * Manifest 파일 이름
+   *
+   * @apiNote Manifest 파일 이름
+   * @since 2026. 10. 18. 오전 5:00:27
+   */
+  public static final String FILENAME = ".restdocs-manifest";
+
+  /**
+   * Manifest 파일 경로
+   *
+   * @apiNote Manifest 파일 경로
+   * @since 2026. 10. 18. 오전 5:00:27
+   */
+  private final Path path;
+  /**
+   * 파일 이름별 hash
+   *
+   * @apiNote 저장 결과가 항상 같도록 파일 이름 순으로 정렬
+   * @since 2026. 10. 18. 오전 5:00:27
+   */
+  private final Map<String, String> hashMap = new TreeMap<>();
+  /**
+   * 파일 이름별 소유 모듈
+   *
+   * @apiNote 같은 Manifest 를 공유하는 모듈 중에서 마지막으로 문서를 작성한 모듈
+   * @since 2026. 10. 18. 오전 6:16:40
+   */
+  private final Map<String, String> ownerMap = new TreeMap<>();
+  /**
+   * 변경 여부
+   *
+   * @apiNote 변경된 내용이 없다면 Manifest 파일을 다시 작성하지 않는다.
+   * @since 2026. 10. 18. 오전 5:00:27
+   */
+  private boolean changed;
+
+  private DocsManifest(Path path) {
+    this.path = path;
+  }
+
+  /**
+   * Manifest 조회
+   *
+   * @param directory 문서 Directory
+   * @return the docs manifest
+   * @throws IOException the io exception
+   * @apiNote 문서 Directory 의 Manifest 파일을 읽어서 생성<br>
+   * 파일이 없다면 빈 Manifest 를 반환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:00:27
+   */
+  public static DocsManifest load(Path directory) throws IOException {
+    return load(directory, FILENAME);
+  }
+
+  /**
+   * Manifest 조회
+   *
+   * @param directory 문서 Directory
+   * @param filename  Manifest 파일 이름
+   * @return the docs manifest
+   * @throws IOException the io exception
+   * @apiNote 여러 모듈이 같은 문서 Directory 에 동시에 문서를 생성할 때<br>
+   * 서로의 Manifest 를 덮어쓰지 않도록 모듈마다 다른 파일 이름 사용
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:50:27
+   */
+  public static DocsManifest load(Path directory, String filename) throws IOException {
+    DocsManifest manifest = new DocsManifest(directory.resolve(filename));
+
+    if (Files.exists(manifest.path)) {
+      for (String line : Files.readAllLines(manifest.path, UTF_8)) {
+        // {hash}  {filename} 또는 {hash}  {owner}  {filename}
+        String[] columns = line.split(" {2}", 3);
+
+        if (columns.length < 2) {
+          continue;
+        }
+
+        String documentName = columns[columns.length - 1];
+
+        manifest.hashMap.put(documentName, columns[0]);
+
+        if (columns.length == 3) {
+          manifest.ownerMap.put(documentName, columns[1]);
+        }
+      }
+    }
+
+    return manifest;
+  }
+
+  /**
+   * 다른 Manifest 목록 조회
+   *
+   * @param directory 문서 Directory
+   * @param filename  제외할 Manifest 파일 이름
+   * @return the list
+   * @throws IOException the io exception
+   * @apiNote 같은 문서 Directory 에 다른 모듈이 작성한 Manifest 목록<br>
+   * 문서마다 어느 모듈이 작성했는지 확인할 때 사용
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:09:20
+   */
+  public static List<DocsManifest> loadOthers(Path directory, String filename)
+      throws IOException {
+    List<String> filenameList;
+
+    try (Stream<Path> stream = Files.list(directory)) {
+      filenameList = stream
+          .map(path -> path.getFileName().toString())
+          .filter(name -> name.startsWith(FILENAME) && !name.equals(filename))
+          .sorted()
+          .toList();
+    }
+
+    List<DocsManifest> manifestList = new ArrayList<>(filenameList.size());
+
+    for (String name : filenameList) {
+      manifestList.add(load(directory, name));
+    }
+
+    return manifestList;
+  }
+
+  /**
+   * Hash 계산
+   *
+   * @param bytes 파일 내용
+   * @return the string
+   * @apiNote SHA-256 hash 를 16진수 문자열로 반환
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:00:27
+   */
+  public static String hash(byte[] bytes) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public String getFilename() {
+    return path.getFileName().toString();
+  }
+
+  public String get(String filename) {
+    return hashMap.get(filename);
+  }
+
+  public String getOwner(String filename) {
+    return ownerMap.get(filename);
+  }
+
+  public void put(String filename, String hash) {
+    put(filename, hash, null);
+  }
+
+  /**
+   * Hash 저장
+   *
+   * @param filename 파일 이름
+   * @param hash     파일 내용의 hash
+   * @param owner    문서를 작성한 모듈<br>
+   *                 알 수 없다면 null
+   * @apiNote 내용이 같다면 소유 모듈을 바꾸지 않아서 모듈이 번갈아 Build 해도 Manifest 를 유지<br>
+   * 소유 모듈을 알 수 없다면 DocsAssembler 처럼 같은 Manifest 를 사용하는 다른 작업이<br>
+   * 다른 모듈의 기록을 지우지 않도록 기록된 소유 모듈을 유지
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:16:40
+   */
+  public void put(String filename, String hash, String owner) {
+    String previousHash = hashMap.put(filename, hash);
+
+    if (isNull(owner) || (hash.equals(previousHash) && ownerMap.containsKey(filename))) {
+      if (!hash.equals(previousHash)) {
+        changed = true;
+      }
+
+      return;
+    }
+
+    ownerMap.put(filename, owner);
+
+    changed = true;
+  }
+
+  public void remove(String filename) {
+    ownerMap.remove(filename);
+
+    if (!isNull(hashMap.remove(filename))) {
+      changed = true;
+    }
+  }
+
+  /**
+   * Manifest 저장
+   *
+   * @throws IOException the io exception
+   * @apiNote 변경된 내용이 있을 때만 Manifest 파일을 작성
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:00:27
+   */
+  public void save() throws IOException {
+    if (!changed) {
+      return;
+    }
+
+    StringBuilder stringBuilder = new StringBuilder();
+
+    hashMap.forEach((filename, hash) -> {
+      String owner = ownerMap.get(filename);
+
+      stringBuilder.append(hash).append("  ");
+
+      if (!isNull(owner)) {
+        stringBuilder.append(owner).append("  ");
+      }
+
+      stringBuilder.append(filename).append("\n");
+    });
+
+    AtomicFiles.write(path, stringBuilder.toString().getBytes(UTF_8));
+
+    changed = false;
+  }
+
+}
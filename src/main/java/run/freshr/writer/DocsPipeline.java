@@ -0,0 +1,297 @@
+package run.freshr.writer;
+
+import static java.util.Objects.isNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import javax.lang.model.element.Element;
+import run.freshr.metrics.DocsMetrics;
+import run.freshr.metrics.DocsMetrics.Counter;
+import run.freshr.metrics.DocsMetrics.Phase;
+
+/**
+ * Docs Pipeline.
+ *
+ * @author FreshR
+ * @apiNote 문서 생성과 저장을 javac Thread 밖에서 처리<br>
+ * 문서는 Thread 개수를 제한한 ForkJoinPool 에서 병렬로 생성하고<br>
+ * 파일 저장은 별도의 Thread 하나에서 순서대로 처리<br>
+ * Filer 처럼 javac Thread 에서만 사용할 수 있는 Writer 는 요청한 순서대로 호출한 Thread 에서 저장<br>
+ * 병렬 처리 수준이 1 이하라면 호출한 Thread 에서 바로 생성하고 저장
+ * @since 2026. 10. 18. 오전 5:14:11
+ */
+public class DocsPipeline implements Closeable {
+
+  /**
+   * 종료 대기 시간
+   *
+   * @apiNote close 에서 Thread 가 멈출 때까지 기다리는 최대 초
+   * @since 2026. 10. 18. 오전 6:14:24
+   */
+  private static final long TERMINATION_TIMEOUT_SECONDS = 30;
+
+  /**
+   * Writer
+   *
+   * @apiNote 문서를 저장할 Writer
+   * @since 2026. 10. 18. 오전 5:14:11
+   */
+  private final DocsWriter docsWriter;
+  /**
+   * 문서 생성 Thread Pool
+   *
+   * @apiNote 순차 처리라면 null
+   * @since 2026. 10. 18. 오전 5:14:11
+   */
+  private final ExecutorService renderExecutor;
+  /**
+   * 문서 저장 Thread
+   *
+   * @apiNote 호출한 Thread 에서 저장해야 한다면 null
+   * @since 2026. 10. 18. 오전 5:14:11
+   */
+  private final ExecutorService writeExecutor;
+  /**
+   * 비동기 저장 작업 목록
+   *
+   * @apiNote close 에서 모든 작업이 끝날 때까지 대기
+   * @since 2026. 10. 18. 오전 5:14:11
+   */
+  private final List<CompletableFuture<Void>> writeList = new ArrayList<>();
+  /**
+   * 호출한 Thread 에서 저장할 작업 목록
+   *
+   * @apiNote 요청한 순서대로 저장
+   * @since 2026. 10. 18. 오전 5:14:11
+   */
+  private final Deque<PendingDocs> pendingList = new ArrayDeque<>();
+  /**
+   * 처리 기록
+   *
+   * @apiNote 문서 생성과 저장 시간, 저장한 파일 개수와 byte 수 기록
+   * @since 2026. 10. 18. 오전 5:36:25
+   */
+  private final DocsMetrics metrics;
+
+  public DocsPipeline(DocsWriter docsWriter, int parallelism, boolean asyncWrite) {
+    this(docsWriter, parallelism, asyncWrite, new DocsMetrics());
+  }
+
+  /**
+   * Instantiates a new Docs pipeline.
+   *
+   * @param docsWriter  문서를 저장할 Writer
+   * @param parallelism 병렬 처리 수준
+   * @param asyncWrite  별도의 Thread 에서 저장해도 되는지 여부
+   * @param metrics     처리 기록
+   * @apiNote 병렬 처리 수준이 1 이하라면 순차 처리
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:14:11
+   */
+  public DocsPipeline(DocsWriter docsWriter, int parallelism, boolean asyncWrite,
+      DocsMetrics metrics) {
+    this.docsWriter = docsWriter;
+    this.metrics = metrics;
+
+    if (parallelism <= 1) {
+      this.renderExecutor = null;
+      this.writeExecutor = null;
+
+      return;
+    }
+
+    this.renderExecutor = new ForkJoinPool(parallelism);
+    this.writeExecutor = asyncWrite ? Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "rest-docs-writer");
+
+      thread.setDaemon(true);
+
+      return thread;
+    }) : null;
+  }
+
+  /**
+   * 문서 생성 요청
+   *
+   * @param filename            파일 이름
+   * @param renderer            문서 생성 함수
+   * @param originatingElements 문서를 생성하게 한 Element 목록
+   * @throws IOException the io exception
+   * @apiNote 문서 생성 요청
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:14:11
+   */
+  public void submit(String filename, Supplier<String> renderer, Element... originatingElements)
+      throws IOException {
+    if (isNull(renderExecutor)) {
+      write(filename, render(renderer), originatingElements);
+
+      return;
+    }
+
+    CompletableFuture<String> rendering = CompletableFuture.supplyAsync(() -> render(renderer),
+        renderExecutor);
+
+    if (!isNull(writeExecutor)) {
+      writeList.add(rendering.thenAcceptAsync(contents -> {
+        try {
+          write(filename, contents, originatingElements);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }, writeExecutor));
+
+      return;
+    }
+
+    pendingList.add(new PendingDocs(filename, rendering, originatingElements));
+
+    // 생성이 끝난 문서는 순서대로 바로 저장
+    while (!pendingList.isEmpty() && pendingList.peek().rendering.isDone()) {
+      writePending(pendingList.poll());
+    }
+  }
+
+  /**
+   * 저장 완료
+   *
+   * @throws IOException the io exception
+   * @apiNote 모든 문서의 생성과 저장이 끝날 때까지 대기한 뒤 Writer 를 닫는다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:14:11
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      while (!pendingList.isEmpty()) {
+        writePending(pendingList.poll());
+      }
+
+      for (CompletableFuture<Void> write : writeList) {
+        join(write);
+      }
+    } finally {
+      // 저장 Thread 가 멈춘 뒤 Manifest 를 저장하고 Writer 가 획득한 Lock 을 반환
+      terminate(renderExecutor);
+      terminate(writeExecutor);
+
+      docsWriter.close();
+    }
+  }
+
+  /**
+   * Thread Pool 종료
+   *
+   * @param executor the executor
+   * @apiNote 남은 작업을 중단하고 Thread 가 멈출 때까지 제한 시간만큼 대기<br>
+   * 저장에 실패한 뒤에도 저장 Thread 가 Manifest 와 동시에 파일을 작성하지 않도록 한다.
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:14:24
+   */
+  private void terminate(ExecutorService executor) {
+    if (isNull(executor)) {
+      return;
+    }
+
+    executor.shutdownNow();
+
+    try {
+      executor.awaitTermination(TERMINATION_TIMEOUT_SECONDS, SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void writePending(PendingDocs pending) throws IOException {
+    write(pending.filename, join(pending.rendering), pending.originatingElements);
+  }
+
+  private String render(Supplier<String> renderer) {
+    long start = System.nanoTime();
+
+    try {
+      return renderer.get();
+    } finally {
+      metrics.record(Phase.RENDERING, start);
+    }
+  }
+
+  /**
+   * 문서 저장
+   *
+   * @param filename            파일 이름
+   * @param contents            문서 내용
+   * @param originatingElements 문서를 생성하게 한 Element 목록
+   * @throws IOException the io exception
+   * @apiNote 저장 시간과 저장 결과를 기록
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:36:25
+   */
+  private void write(String filename, String contents, Element... originatingElements)
+      throws IOException {
+    long start = System.nanoTime();
+    long bytes = docsWriter.write(filename, contents, originatingElements);
+
+    metrics.record(Phase.WRITING, start);
+
+    if (bytes == DocsWriter.UNCHANGED) {
+      metrics.increment(Counter.FILES_UNCHANGED);
+
+      return;
+    }
+
+    metrics.increment(Counter.FILES_WRITTEN);
+    metrics.add(Counter.BYTES_WRITTEN, bytes);
+  }
+
+  private <T> T join(CompletableFuture<T> future) throws IOException {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof UncheckedIOException cause) {
+        throw cause.getCause();
+      }
+
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+
+      throw e;
+    }
+  }
+
+  /**
+   * 저장 대기 문서
+   *
+   * @author FreshR
+   * @apiNote 호출한 Thread 에서 저장할 문서 정보
+   * @since 2026. 10. 18. 오전 5:14:11
+   */
+  private static final class PendingDocs {
+
+    private final String filename;
+    private final CompletableFuture<String> rendering;
+    private final Element[] originatingElements;
+
+    private PendingDocs(String filename, CompletableFuture<String> rendering,
+        Element[] originatingElements) {
+      this.filename = filename;
+      this.rendering = rendering;
+      this.originatingElements = originatingElements;
+    }
+
+  }
+
+}
@@ -0,0 +1,53 @@
+package run.freshr.writer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import javax.lang.model.element.Element;
+
+/**
+ * Docs Writer.
+ *
+ * @author FreshR
+ * @apiNote 생성한 AsciiDoc 문서를 저장하는 방법 정의
+ * @since 2026. 10. 18. 오전 4:59:26
+ */
+public interface DocsWriter extends Closeable {
+
+  /**
+   * 변경 없음
+   *
+   * @apiNote 내용이 같아서 저장하지 않았을 때 write 의 반환 값
+   * @since 2026. 10. 18. 오전 5:36:25
+   */
+  long UNCHANGED = -1;
+
+  /**
+   * 문서 저장
+   *
+   * @param filename            파일 이름
+   * @param contents            문서 내용
+   * @param originatingElements 문서를 생성하게 한 Element 목록
+   * @return 저장한 byte 수<br>
+   * 내용이 같아서 저장하지 않았다면 UNCHANGED
+   * @throws IOException the io exception
+   * @apiNote 문서 저장<br>
+   * originatingElements 는 Gradle 증분 컴파일에서 생성 파일과 원본 클래스를 연결할 때 사용
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 4:59:26
+   */
+  long write(String filename, String contents, Element... originatingElements)
+      throws IOException;
+
+  /**
+   * 저장 완료
+   *
+   * @throws IOException the io exception
+   * @apiNote 모든 문서를 저장한 뒤 호출
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 5:00:27
+   */
+  @Override
+  default void close() throws IOException {
+  }
+
+}
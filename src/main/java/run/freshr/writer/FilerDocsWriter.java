@@ -0,0 +1,56 @@
+package run.freshr.writer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.tools.FileObject;
+
+/**
+ * Filer Docs Writer.
+ *
+ * @author FreshR
+ * @apiNote Filer 를 통해서 CLASS_OUTPUT 에 문서를 저장<br>
+ * Gradle 이 생성 파일을 추적할 수 있어서 증분 컴파일에서 원본 클래스가 변경된 문서만 다시 생성
+ * @since 2026. 10. 18. 오전 4:59:26
+ */
+public class FilerDocsWriter implements DocsWriter {
+
+  /**
+   * Filer
+   *
+   * @apiNote Annotation Processor 의 Filer
+   * @since 2026. 10. 18. 오전 4:59:26
+   */
+  private final Filer filer;
+  /**
+   * 저장 경로
+   *
+   * @apiNote CLASS_OUTPUT 기준 상대 경로
+   * @since 2026. 10. 18. 오전 4:59:26
+   */
+  private final String directory;
+
+  public FilerDocsWriter(Filer filer, String directory) {
+    this.filer = filer;
+    this.directory = directory;
+  }
+
+  @Override
+  public long write(String filename, String contents, Element... originatingElements)
+      throws IOException {
+    FileObject resource = filer.createResource(CLASS_OUTPUT, "",
+        directory + "/" + filename, originatingElements);
+    byte[] bytes = contents.getBytes(UTF_8);
+
+    try (OutputStream outputStream = resource.openOutputStream()) {
+      outputStream.write(bytes);
+    }
+
+    return bytes.length;
+  }
+
+}
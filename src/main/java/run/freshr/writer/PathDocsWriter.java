@@ -0,0 +1,211 @@
+package run.freshr.writer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import javax.lang.model.element.Element;
+
+/**
+ * Path Docs Writer.
+ *
+ * @author FreshR
+ * @apiNote 지정한 Directory 에 직접 문서를 저장<br>
+ * Manifest 의 hash 와 비교해서 내용이 변경된 문서만 다시 작성하고<br>
+ * 변경되지 않은 문서는 수정 시간까지 그대로 유지<br>
+ * 생성부터 close 까지 DocsLock 을 유지해서 같은 Directory 를 사용하는 다른 작업과 순서대로 저장
+ * @since 2026. 10. 18. 오전 4:59:26
+ */
+public class PathDocsWriter implements DocsWriter {
+
+  /**
+   * 저장 경로
+   *
+   * @apiNote AsciiDoc 문서를 생성할 Directory
+   * @since 2026. 10. 18. 오전 4:59:26
+   */
+  private final Path directory;
+  /**
+   * Manifest
+   *
+   * @apiNote 생성한 문서의 내용 hash 목록
+   * @since 2026. 10. 18. 오전 5:00:27
+   */
+  private final DocsManifest manifest;
+  /**
+   * 다른 Manifest 목록
+   *
+   * @apiNote 같은 Directory 에 다른 모듈이 작성한 Manifest<br>
+   * 문서를 작성한 모듈이 다른지 확인할 때 사용
+   * @since 2026. 10. 18. 오전 6:09:20
+   */
+  private final List<DocsManifest> otherManifestList;
+  /**
+   * 소유 충돌 목록
+   *
+   * @apiNote 다른 모듈이 다른 내용으로 작성한 문서를 덮어쓴 기록
+   * @since 2026. 10. 18. 오전 6:09:20
+   */
+  private final List<String> conflictList = new ArrayList<>();
+  /**
+   * Lock
+   *
+   * @apiNote close 에서 반환
+   * @since 2026. 10. 18. 오전 6:09:20
+   */
+  private final DocsLock docsLock;
+  /**
+   * 소유 모듈
+   *
+   * @apiNote Manifest 에 문서와 함께 기록할 모듈<br>
+   * 알 수 없다면 null
+   * @since 2026. 10. 18. 오전 6:16:40
+   */
+  private final String owner;
+  /**
+   * 종료 여부
+   *
+   * @apiNote Lock 을 한 번만 반환하도록 기록
+   * @since 2026. 10. 18. 오전 6:14:58
+   */
+  private boolean closed;
+
+  public PathDocsWriter(Path directory) throws IOException {
+    this(directory, DocsManifest.FILENAME);
+  }
+
+  public PathDocsWriter(Path directory, String manifestName) throws IOException {
+    this(directory, manifestName, null);
+  }
+
+  /**
+   * Instantiates a new Path docs writer.
+   *
+   * @param directory    문서 Directory
+   * @param manifestName Manifest 파일 이름
+   * @param owner        Manifest 에 문서와 함께 기록할 모듈<br>
+   *                     알 수 없다면 null
+   * @throws IOException the io exception
+   * @apiNote Lock 을 획득한 뒤 Manifest 를 읽기 때문에<br>
+   * 다른 작업이 같은 Directory 에 저장 중이라면 끝날 때까지 대기
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:09:20
+   */
+  public PathDocsWriter(Path directory, String manifestName, String owner) throws IOException {
+    this.directory = directory;
+    this.owner = owner;
+    this.docsLock = DocsLock.acquire(directory);
+
+    try {
+      this.manifest = DocsManifest.load(directory, manifestName);
+      this.otherManifestList = DocsManifest.loadOthers(directory, manifestName);
+    } catch (IOException | RuntimeException e) {
+      docsLock.close();
+
+      throw e;
+    }
+  }
+
+  public List<String> getConflictList() {
+    return conflictList;
+  }
+
+  @Override
+  public long write(String filename, String contents, Element... originatingElements)
+      throws IOException {
+    Path documentPath = directory.resolve(filename);
+    byte[] bytes = contents.getBytes(UTF_8);
+    String hash = DocsManifest.hash(bytes);
+
+    checkOwner(filename, hash);
+
+    if (Files.exists(documentPath)) {
+      String previousHash = manifest.get(filename);
+
+      // Manifest 에 없는 파일은 이전 버전에서 생성한 파일이므로 내용으로 비교
+      if (isNull(previousHash)) {
+        previousHash = DocsManifest.hash(Files.readAllBytes(documentPath));
+      }
+
+      if (hash.equals(previousHash)) {
+        manifest.put(filename, hash, owner);
+
+        return UNCHANGED;
+      }
+    }
+
+    // 파일 생성
+    AtomicFiles.write(documentPath, bytes);
+
+    manifest.put(filename, hash, owner);
+
+    return bytes.length;
+  }
+
+  /**
+   * 저장 완료
+   *
+   * @throws IOException the io exception
+   * @apiNote Manifest 를 저장한 뒤 Lock 반환<br>
+   * 저장에 실패해도 Lock 은 반환하고 두 번째 호출부터는 무시
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:09:20
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+
+    try {
+      manifest.save();
+
+      for (DocsManifest otherManifest : otherManifestList) {
+        otherManifest.save();
+      }
+    } finally {
+      docsLock.close();
+    }
+  }
+
+  /**
+   * 소유 모듈 확인
+   *
+   * @param filename 파일 이름
+   * @param hash     작성할 내용의 hash
+   * @apiNote 다른 모듈이 같은 문서를 다른 내용으로 작성했다면 충돌로 기록<br>
+   * 같은 Manifest 를 공유한다면 기록된 소유 모듈과 비교하고<br>
+   * 다른 Manifest 라면 다음 Build 에서 다시 알리지 않도록 다른 모듈의 Manifest 에서 제거<br>
+   * 같은 내용이라면 두 모듈이 함께 소유
+   * @author FreshR
+   * @since 2026. 10. 18. 오전 6:09:20
+   */
+  private void checkOwner(String filename, String hash) {
+    String previousOwner = manifest.getOwner(filename);
+
+    if (!isNull(owner) && !isNull(previousOwner) && !owner.equals(previousOwner)
+        && !hash.equals(manifest.get(filename))) {
+      conflictList.add("'" + filename + "' generated by " + previousOwner
+          + " is overwritten by " + owner);
+    }
+
+    for (DocsManifest otherManifest : otherManifestList) {
+      String otherHash = otherManifest.get(filename);
+
+      if (isNull(otherHash) || otherHash.equals(hash)) {
+        continue;
+      }
+
+      conflictList.add("'" + filename + "' generated with " + otherManifest.getFilename()
+          + " is overwritten with " + manifest.getFilename());
+      otherManifest.remove(filename);
+    }
+  }
+
+}
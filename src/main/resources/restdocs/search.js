@@ -0,0 +1,98 @@
+/*
+ * Rest Docs 검색
+ * search-index.js 의 색인으로 입력한 단어로 시작하는 문서를 찾는다.
+ * 단어 목록이 정렬되어 있기 때문에 이진 탐색으로 시작 위치를 찾고 prefix 가 다를 때까지만 확인
+ */
+(function () {
+  const MAX_RESULTS = 20;
+
+  function tokenize(text) {
+    return text.toLowerCase().split(/[^\p{L}\p{Nd}]+/u).filter(function (token) {
+      return token.length > 0;
+    });
+  }
+
+  function lowerBound(keys, token) {
+    let low = 0;
+    let high = keys.length;
+
+    while (low < high) {
+      const middle = (low + high) >>> 1;
+
+      if (keys[middle] < token) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+
+    return low;
+  }
+
+  function find(index, token) {
+    const idSet = new Set();
+
+    for (let i = lowerBound(index.keys, token); i < index.keys.length; i++) {
+      if (!index.keys[i].startsWith(token)) {
+        break;
+      }
+
+      index.postings[i].forEach(function (id) {
+        idSet.add(id);
+      });
+    }
+
+    return idSet;
+  }
+
+  function search(index, query) {
+    let result = null;
+
+    tokenize(query).forEach(function (token) {
+      const idSet = find(index, token);
+
+      result = result === null ? idSet : new Set([...result].filter(function (id) {
+        return idSet.has(id);
+      }));
+    });
+
+    return result === null ? [] : [...result].sort(function (a, b) {
+      return a - b;
+    }).slice(0, MAX_RESULTS);
+  }
+
+  function render(index, input, output) {
+    output.innerHTML = '';
+
+    search(index, input.value).forEach(function (id) {
+      const doc = index.docs[id];
+      const item = document.createElement('li');
+      const link = document.createElement('a');
+
+      link.href = doc[0];
+      link.textContent = doc[2] ? doc[2] + ' > ' + doc[1] : doc[1];
+      item.appendChild(link);
+      output.appendChild(item);
+    });
+  }
+
+  function init() {
+    const index = window.RESTDOCS_SEARCH_INDEX;
+    const input = document.getElementById('restdocs-search');
+    const output = document.getElementById('restdocs-search-results');
+
+    if (!index || !input || !output) {
+      return;
+    }
+
+    input.addEventListener('input', function () {
+      render(index, input, output);
+    });
+  }
+
+  if (document.readyState !== 'loading') {
+    init();
+  } else {
+    document.addEventListener('DOMContentLoaded', init);
+  }
+})();
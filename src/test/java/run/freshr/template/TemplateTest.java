@@ -0,0 +1,67 @@
+package run.freshr.template;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Template test.
+ *
+ * @author FreshR
+ * @apiNote Template 분석과 출력 검증
+ * @since 2026. 10. 18. 오전 6:48:10
+ */
+class TemplateTest {
+
+  private static final Map<String, String> VALUE_MAP = Map.of(
+      "group.name", "회원",
+      "docs.path", "/member");
+
+  private static String render(String template) {
+    StringBuilder output = new StringBuilder();
+
+    Template.parse(template).render(output, VALUE_MAP::get);
+
+    return output.toString();
+  }
+
+  @Test
+  @DisplayName(". 을 포함한 이름만 치환")
+  void replaceDottedKey() {
+    assertEquals("= 회원 {snippets} /member",
+        render("= {group.name} {snippets} {docs.path}"));
+  }
+
+  @Test
+  @DisplayName("값이 없는 치환 영역은 그대로 유지")
+  void keepUnknownKey() {
+    assertEquals("{group.unknown}", render("{group.unknown}"));
+  }
+
+  @Test
+  @DisplayName("\\r\\n 은 \\n 으로 변환")
+  void normalizeLineSeparator() {
+    assertEquals("회원\n/member\n", render("{group.name}\r\n{docs.path}\r\n"));
+  }
+
+  @Test
+  @DisplayName("닫히지 않은 { 이후는 문자열로 유지")
+  void keepUnterminatedBrace() {
+    assertEquals("회원 {group.name", render("{group.name} {group.name"));
+  }
+
+  @Test
+  @DisplayName("중첩된 { 안쪽의 치환 영역도 인식")
+  void replaceInnerKey() {
+    assertEquals("{ 회원}", render("{ {group.name}}"));
+  }
+
+  @Test
+  @DisplayName("치환 영역을 제외한 문자열 길이")
+  void literalLength() {
+    assertEquals(4, Template.parse("= {group.name} {docs.path}\r\n").getLiteralLength());
+  }
+
+}
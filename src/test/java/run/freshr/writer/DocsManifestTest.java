@@ -0,0 +1,138 @@
+package run.freshr.writer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Docs manifest test.
+ *
+ * @author FreshR
+ * @apiNote DocsManifest 조회, 저장과 소유 모듈 유지 검증
+ * @since 2026. 10. 18. 오전 6:52:34
+ */
+class DocsManifestTest {
+
+  @TempDir
+  Path directory;
+
+  private Path write(String filename, String content) throws IOException {
+    return Files.writeString(directory.resolve(filename), content, UTF_8);
+  }
+
+  @Test
+  @DisplayName("소유 모듈이 있는 줄과 없는 줄 조회")
+  void load() throws IOException {
+    write(DocsManifest.FILENAME, "aaa  member.adoc\nbbb  api  order.adoc\ninvalid\n");
+
+    DocsManifest manifest = DocsManifest.load(directory);
+
+    assertEquals("aaa", manifest.get("member.adoc"));
+    assertNull(manifest.getOwner("member.adoc"));
+    assertEquals("bbb", manifest.get("order.adoc"));
+    assertEquals("api", manifest.getOwner("order.adoc"));
+    assertNull(manifest.get("invalid"));
+  }
+
+  @Test
+  @DisplayName("Manifest 파일이 없다면 빈 Manifest")
+  void loadEmpty() throws IOException {
+    DocsManifest manifest = DocsManifest.load(directory);
+
+    assertNull(manifest.get("member.adoc"));
+
+    manifest.save();
+
+    assertFalse(Files.exists(directory.resolve(DocsManifest.FILENAME)));
+  }
+
+  @Test
+  @DisplayName("sha256sum 형식으로 저장")
+  void save() throws IOException {
+    DocsManifest manifest = DocsManifest.load(directory);
+
+    manifest.put("order.adoc", "bbb", "api");
+    manifest.put("member.adoc", "aaa");
+    manifest.save();
+
+    assertEquals("aaa  member.adoc\nbbb  api  order.adoc\n",
+        Files.readString(directory.resolve(DocsManifest.FILENAME), UTF_8));
+  }
+
+  @Test
+  @DisplayName("변경된 내용이 없다면 저장하지 않음")
+  void skipUnchanged() throws IOException {
+    Path path = write(DocsManifest.FILENAME, "aaa  api  member.adoc\n");
+    DocsManifest manifest = DocsManifest.load(directory);
+
+    Files.delete(path);
+
+    manifest.put("member.adoc", "aaa", "admin");
+    manifest.put("member.adoc", "aaa");
+    manifest.remove("order.adoc");
+    manifest.save();
+
+    assertFalse(Files.exists(path));
+    assertEquals("api", manifest.getOwner("member.adoc"));
+  }
+
+  @Test
+  @DisplayName("소유 모듈을 알 수 없다면 기록된 소유 모듈 유지")
+  void keepOwner() throws IOException {
+    write(DocsManifest.FILENAME, "aaa  api  member.adoc\n");
+
+    DocsManifest manifest = DocsManifest.load(directory);
+
+    manifest.put("member.adoc", "ccc");
+    manifest.save();
+
+    assertEquals("ccc  api  member.adoc\n",
+        Files.readString(directory.resolve(DocsManifest.FILENAME), UTF_8));
+  }
+
+  @Test
+  @DisplayName("내용이 바뀌면 소유 모듈 변경")
+  void changeOwner() throws IOException {
+    write(DocsManifest.FILENAME, "aaa  api  member.adoc\n");
+
+    DocsManifest manifest = DocsManifest.load(directory);
+
+    manifest.put("member.adoc", "ccc", "admin");
+    manifest.remove("order.adoc");
+
+    assertEquals("admin", manifest.getOwner("member.adoc"));
+
+    manifest.remove("member.adoc");
+    manifest.save();
+
+    assertEquals("", Files.readString(directory.resolve(DocsManifest.FILENAME), UTF_8));
+  }
+
+  @Test
+  @DisplayName("같은 Directory 의 다른 Manifest 목록 조회")
+  void loadOthers() throws IOException {
+    write(DocsManifest.FILENAME + "-api", "aaa  member.adoc\n");
+    write(DocsManifest.FILENAME + "-admin", "bbb  order.adoc\n");
+    write(DocsManifest.FILENAME, "ccc  index.adoc\n");
+    write("member.adoc", "= 회원\n");
+
+    List<DocsManifest> manifestList = DocsManifest.loadOthers(directory,
+        DocsManifest.FILENAME + "-api");
+
+    assertEquals(2, manifestList.size());
+    assertEquals(DocsManifest.FILENAME, manifestList.get(0).getFilename());
+    assertEquals("ccc", manifestList.get(0).get("index.adoc"));
+    assertEquals(DocsManifest.FILENAME + "-admin", manifestList.get(1).getFilename());
+    assertEquals("bbb", manifestList.get(1).get("order.adoc"));
+  }
+
+}